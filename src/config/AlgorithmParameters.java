@@ -27,6 +27,55 @@ public class AlgorithmParameters
 
     // to ensure only valid paths are generated
     public static boolean constraintHandling = false;
+    // 17 October 2026, when handling constraints, construct only valid
+    // paths, by masking out choices that would leave a class without
+    // an attribute or a method, rather than regenerating invalid paths
+    public static boolean validByConstruction = false;
+    
+    // 17 October 2026
+    // construct the solution paths of the colony on a pool of worker threads
+    public static boolean parallelConstruction = false;
+    public static int numberOfConstructionThreads = Runtime.getRuntime( ).availableProcessors( );
+    
+    // 17 October 2026
+    // perform the runs of a batch concurrently, each worker thread with
+    // a controller of its own, recording into the shared batch results
+    public static boolean parallelRuns = false;
+    public static int numberOfRunThreads = Runtime.getRuntime( ).availableProcessors( );
+    
+    // 17 October 2026
+    // evaporate and deposit pheromone in stripes on a pool of worker threads,
+    // sharing the construction pool if there is one, but only for matrices
+    // of at least the threshold number of nodes; below it, the overhead
+    // of sharing out the work outweighs the gain
+    public static boolean parallelPheromoneUpdate = false;
+    public static int parallelUpdateThreshold = 1000;
+    
+    // 17 October 2026
+    // calculate the fitness of the paths of the colony on a pool of worker
+    // threads, sharing the construction pool if there is one; the best and 
+    // worst paths and the averages are then found in colony order, so the
+    // results are the same as sequential evaluation
+    public static boolean parallelEvaluation = false;
+    
+    // 17 October 2026
+    // look up the fitness of each software design in a cache of the designs
+    // already evaluated in the run, keyed by the partition of the attributes
+    // and methods into classes; the number of slots is a power of two
+    public static boolean fitnessCache = false;
+    public static int fitnessCacheSize = 4096;
+    
+    // 17 October 2026
+    // keep the CBO / NAC trade-off front found over each run in a bounded
+    // archive, pruning the most crowded path when full, and record the front
+    // and its hypervolume with the results of the run
+    public static boolean paretoArchive = false;
+    public static int paretoArchiveSize = 100;
+    
+    // 17 October 2026
+    // create the ants and their paths once per run, and reuse them 
+    // in every iteration, rather than creating new ones
+    public static boolean pooledColony = false;
     
     // alpha - parameter controlling pheromone attractiveness during solution path generation
     public static final double ALPHA_SD = 1.5; 
@@ -53,12 +102,28 @@ public class AlgorithmParameters
     public static double MMAS_Mmax = 0.0; // set up in BatchMain 
     public static double MMAS_Mmin = 0.0; // set up in BatchMain 
     
+    // 17 October 2026
+    // for TSP, construct tours by choosing from the nearest unvisited 
+    // cities first, and from all unvisited cities only when every 
+    // candidate has been visited
+    public static boolean candidateLists = false;
+    public static int candidateListSize = 20;
+    
+    // 17 October 2026
+    // select the next node by O(log n) draws from a sampling tree over
+    // each row of the alpha matrix, rejecting nodes already visited;
+    // not used with heuristic information, which varies from ant to ant
+    public static boolean treeSampling = false;
+    
     // flag to signal exploitation of heuristic information
     public static boolean heuristics = false;
     
     // parameters controlling influence of heuristic information
     public static double BETA_CBO = 1.0;
     public static double BETA_NAC = 1.0;
+    // 17 October 2026, for TSP, applied to the inverse of the distance
+    // between cities, and held with the pheromone in the alpha matrix
+    public static double BETA_TSP = 2.0;
     
     // used in PheromoneOperators to calculate delta
     // and by the elitist replacement archive
@@ -69,6 +134,12 @@ public class AlgorithmParameters
     public static boolean evaporationElitism = true;
     public static boolean replacementElitism = false;
     
+    // 17 October 2026
+    // uniform evaporation as one global decay factor, applied to each
+    // cell only when it is read or written, rather than to every cell
+    // every iteration; not used by elitist evaporation
+    public static boolean lazyEvaporation = false;
+    
     
     // 4 December 2015
     // parameters to scale (normalise) NAC to a range 0...1.0
@@ -113,6 +184,12 @@ public class AlgorithmParameters
     public static final int ANTIPHEROMONE_STRENGTH_TRIPLE = 3;
     public static int antipheromoneStrength = ANTIPHEROMONE_STRENGTH_SINGLE;
     
+    // 17 October 2026
+    // the number of best and of worst paths selected as each colony is 
+    // scanned, at least the pheromone and the antipheromone strength
+    public static int selectedRanks = Math.max( 
+        MMAS_PHEROMONE_TRIPLE, ANTIPHEROMONE_STRENGTH_TRIPLE );
+    
     // MMAS related antipheromone interference prevention parameter
     public static boolean preventInterference = true;
 }  
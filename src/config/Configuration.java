@@ -0,0 +1,1045 @@
+/*
+ * Configuration.java
+ * 17 October 2026
+ */
+
+package config;
+
+/**
+ * The settings of one experiment: the problem instance, the algorithm
+ * and its parameters, and the options of the engine.
+ *
+ * A configuration is immutable: its fields are final, and are set once by
+ * a Builder. fromParameters( ) takes a snapshot of the static fields of
+ * Parameters and AlgorithmParameters, which remain the default, and each
+ * with...( ) method builds a new configuration with one setting changed.
+ * As the controller, its ants and the operators read their settings from
+ * the configuration they were given, rather than from the static fields,
+ * experiments of different settings may run side by side in one process,
+ * and no setting changes during a run.
+ *
+ * The constants, e.g. the number of ants and the problem numbers, remain
+ * in Parameters and AlgorithmParameters, as do the output file settings,
+ * which are read when the results of a batch are written.
+ *
+ * @author cl-simons
+ */
+
+public final class Configuration
+{
+    // the problem instance, and the batch
+    private final int problemNumber;
+    private final int numberOfRuns;
+    private final int numberOfIterations;
+    private final long masterSeed;
+
+    // the algorithm and its parameters
+    private final int algorithm;
+    private final int fitness;
+    private final double alpha;
+    private final double mu;
+    private final double rho;
+    private final double MMAS_Mmax;
+    private final double MMAS_Mmin;
+    private final int pheromoneStrength;
+    private final int antipheromoneStrength;
+    private final int antiPheromonePhasePercentage;
+    private final int selectedRanks;
+    private final boolean preventInterference;
+    private final boolean simpleACOSubtractiveAntipheromone;
+    private final boolean evaporationElitism;
+    private final boolean replacementElitism;
+    private final boolean objectiveCBO;
+    private final boolean objectiveNAC;
+    private final boolean objectiveATMR;
+
+    // heuristic information
+    private final boolean heuristics;
+    private final double BETA_CBO;
+    private final double BETA_NAC;
+    private final double BETA_TSP;
+
+    // construction of the solution paths
+    private final boolean constraintHandling;
+    private final boolean validByConstruction;
+    private final boolean candidateLists;
+    private final int candidateListSize;
+    private final boolean treeSampling;
+    private final boolean pooledColony;
+
+    // options of the engine
+    private final boolean parallelConstruction;
+    private final int numberOfConstructionThreads;
+    private final boolean parallelRuns;
+    private final int numberOfRunThreads;
+    private final boolean parallelPheromoneUpdate;
+    private final int parallelUpdateThreshold;
+    private final boolean parallelEvaluation;
+    private final boolean lazyEvaporation;
+    private final boolean fitnessCache;
+    private final int fitnessCacheSize;
+    private final boolean paretoArchive;
+    private final int paretoArchiveSize;
+
+    /**
+     * constructor, private, see fromParameters( ) and the Builder
+     * @param builder
+     */
+    private Configuration( Builder builder )
+    {
+        this.problemNumber = builder.problemNumber;
+        this.numberOfRuns = builder.numberOfRuns;
+        this.numberOfIterations = builder.numberOfIterations;
+        this.masterSeed = builder.masterSeed;
+
+        this.algorithm = builder.algorithm;
+        this.fitness = builder.fitness;
+        this.alpha = builder.alpha;
+        this.mu = builder.mu;
+        this.rho = builder.rho;
+        this.MMAS_Mmax = builder.MMAS_Mmax;
+        this.MMAS_Mmin = builder.MMAS_Mmin;
+        this.pheromoneStrength = builder.pheromoneStrength;
+        this.antipheromoneStrength = builder.antipheromoneStrength;
+        this.antiPheromonePhasePercentage = builder.antiPheromonePhasePercentage;
+        this.selectedRanks = builder.selectedRanks;
+        this.preventInterference = builder.preventInterference;
+        this.simpleACOSubtractiveAntipheromone = 
+            builder.simpleACOSubtractiveAntipheromone;
+        this.evaporationElitism = builder.evaporationElitism;
+        this.replacementElitism = builder.replacementElitism;
+        this.objectiveCBO = builder.objectiveCBO;
+        this.objectiveNAC = builder.objectiveNAC;
+        this.objectiveATMR = builder.objectiveATMR;
+
+        this.heuristics = builder.heuristics;
+        this.BETA_CBO = builder.BETA_CBO;
+        this.BETA_NAC = builder.BETA_NAC;
+        this.BETA_TSP = builder.BETA_TSP;
+
+        this.constraintHandling = builder.constraintHandling;
+        this.validByConstruction = builder.validByConstruction;
+        this.candidateLists = builder.candidateLists;
+        this.candidateListSize = builder.candidateListSize;
+        this.treeSampling = builder.treeSampling;
+        this.pooledColony = builder.pooledColony;
+
+        this.parallelConstruction = builder.parallelConstruction;
+        this.numberOfConstructionThreads = builder.numberOfConstructionThreads;
+        this.parallelRuns = builder.parallelRuns;
+        this.numberOfRunThreads = builder.numberOfRunThreads;
+        this.parallelPheromoneUpdate = builder.parallelPheromoneUpdate;
+        this.parallelUpdateThreshold = builder.parallelUpdateThreshold;
+        this.parallelEvaluation = builder.parallelEvaluation;
+        this.lazyEvaporation = builder.lazyEvaporation;
+        this.fitnessCache = builder.fitnessCache;
+        this.fitnessCacheSize = builder.fitnessCacheSize;
+        this.paretoArchive = builder.paretoArchive;
+        this.paretoArchiveSize = builder.paretoArchiveSize;
+    }
+
+    /**
+     * @return a configuration of the current values of the static
+     * fields of Parameters and AlgorithmParameters
+     */
+    public static Configuration fromParameters( )
+    {
+        return new Builder( ).build( );
+    }
+
+    //------- the problem instance, and the batch ---------------------------
+
+    public int getProblemNumber( )
+    {
+        return this.problemNumber;
+    }
+
+    public int getNumberOfRuns( )
+    {
+        return this.numberOfRuns;
+    }
+
+    public int getNumberOfIterations( )
+    {
+        return this.numberOfIterations;
+    }
+
+    public long getMasterSeed( )
+    {
+        return this.masterSeed;
+    }
+
+    /**
+     * @return true if the problem instance is a TSP
+     */
+    public boolean isTSP( )
+    {
+        return this.problemNumber == Parameters.TSP_BERLIN52 ||
+               this.problemNumber == Parameters.TSP_ST70 ||
+               this.problemNumber == Parameters.TSP_RAT99 ||
+               this.problemNumber == Parameters.TSP_RAT195;
+    }
+
+    public Configuration withProblemNumber( int problemNumber )
+    {
+        return new Builder( this ).setProblemNumber( problemNumber ).build( );
+    }
+
+    public Configuration withNumberOfRuns( int numberOfRuns )
+    {
+        return new Builder( this ).setNumberOfRuns( numberOfRuns ).build( );
+    }
+
+    public Configuration withNumberOfIterations( int numberOfIterations )
+    {
+        return new Builder( this ).setNumberOfIterations( numberOfIterations ).build( );
+    }
+
+    public Configuration withMasterSeed( long masterSeed )
+    {
+        return new Builder( this ).setMasterSeed( masterSeed ).build( );
+    }
+
+    //------- the algorithm and its parameters ------------------------------
+
+    public int getAlgorithm( )
+    {
+        return this.algorithm;
+    }
+
+    public int getFitness( )
+    {
+        return this.fitness;
+    }
+
+    public double getAlpha( )
+    {
+        return this.alpha;
+    }
+
+    public double getMu( )
+    {
+        return this.mu;
+    }
+
+    public double getRho( )
+    {
+        return this.rho;
+    }
+
+    public double getMMAS_Mmax( )
+    {
+        return this.MMAS_Mmax;
+    }
+
+    public double getMMAS_Mmin( )
+    {
+        return this.MMAS_Mmin;
+    }
+
+    public int getPheromoneStrength( )
+    {
+        return this.pheromoneStrength;
+    }
+
+    public int getAntipheromoneStrength( )
+    {
+        return this.antipheromoneStrength;
+    }
+
+    public int getAntiPheromonePhasePercentage( )
+    {
+        return this.antiPheromonePhasePercentage;
+    }
+
+    public int getSelectedRanks( )
+    {
+        return this.selectedRanks;
+    }
+
+    public boolean isPreventInterference( )
+    {
+        return this.preventInterference;
+    }
+
+    public boolean isSimpleACOSubtractiveAntipheromone( )
+    {
+        return this.simpleACOSubtractiveAntipheromone;
+    }
+
+    public boolean isEvaporationElitism( )
+    {
+        return this.evaporationElitism;
+    }
+
+    public boolean isReplacementElitism( )
+    {
+        return this.replacementElitism;
+    }
+
+    public boolean isObjectiveCBO( )
+    {
+        return this.objectiveCBO;
+    }
+
+    public boolean isObjectiveNAC( )
+    {
+        return this.objectiveNAC;
+    }
+
+    public boolean isObjectiveATMR( )
+    {
+        return this.objectiveATMR;
+    }
+
+    public Configuration withAlgorithm( int algorithm )
+    {
+        return new Builder( this ).setAlgorithm( algorithm ).build( );
+    }
+
+    public Configuration withFitness( int fitness )
+    {
+        return new Builder( this ).setFitness( fitness ).build( );
+    }
+
+    public Configuration withAlpha( double alpha )
+    {
+        return new Builder( this ).setAlpha( alpha ).build( );
+    }
+
+    public Configuration withMu( double mu )
+    {
+        return new Builder( this ).setMu( mu ).build( );
+    }
+
+    public Configuration withRho( double rho )
+    {
+        return new Builder( this ).setRho( rho ).build( );
+    }
+
+    /**
+     * @param MMAS_Mmin - MMAS minimum pheromone level
+     * @param MMAS_Mmax - MMAS maximum pheromone level
+     * @return a configuration as this one, but with the pheromone limits changed
+     */
+    public Configuration withPheromoneLimits( double MMAS_Mmin, double MMAS_Mmax )
+    {
+        return new Builder( this ).setPheromoneLimits( MMAS_Mmin, MMAS_Mmax ).build( );
+    }
+
+    public Configuration withPheromoneStrength( int pheromoneStrength )
+    {
+        return new Builder( this ).setPheromoneStrength( pheromoneStrength ).build( );
+    }
+
+    public Configuration withAntipheromoneStrength( int antipheromoneStrength )
+    {
+        return new Builder( this ).setAntipheromoneStrength( antipheromoneStrength ).build( );
+    }
+
+    public Configuration withAntiPheromonePhasePercentage( int antiPheromonePhasePercentage )
+    {
+        return new Builder( this )
+            .setAntiPheromonePhasePercentage( antiPheromonePhasePercentage )
+            .build( );
+    }
+
+    /**
+     * @param selectedRanks - number of best and of worst paths selected
+     * from each colony, at least the pheromone and antipheromone strength
+     * @return a configuration as this one, but with the selected ranks changed
+     */
+    public Configuration withSelectedRanks( int selectedRanks )
+    {
+        return new Builder( this ).setSelectedRanks( selectedRanks ).build( );
+    }
+
+    public Configuration withPreventInterference( boolean preventInterference )
+    {
+        return new Builder( this ).setPreventInterference( preventInterference ).build( );
+    }
+
+    public Configuration withSimpleACOSubtractiveAntipheromone( boolean subtractive )
+    {
+        return new Builder( this )
+            .setSimpleACOSubtractiveAntipheromone( subtractive )
+            .build( );
+    }
+
+    public Configuration withEvaporationElitism( boolean evaporationElitism )
+    {
+        return new Builder( this ).setEvaporationElitism( evaporationElitism ).build( );
+    }
+
+    public Configuration withReplacementElitism( boolean replacementElitism )
+    {
+        return new Builder( this ).setReplacementElitism( replacementElitism ).build( );
+    }
+
+    /**
+     * @param objectiveCBO
+     * @param objectiveNAC
+     * @param objectiveATMR
+     * @return a configuration as this one, but with the objectives changed
+     */
+    public Configuration withObjectives(
+        boolean objectiveCBO, boolean objectiveNAC, boolean objectiveATMR )
+    {
+        return new Builder( this )
+            .setObjectives( objectiveCBO, objectiveNAC, objectiveATMR )
+            .build( );
+    }
+
+    //------- heuristic information -----------------------------------------
+
+    public boolean isHeuristics( )
+    {
+        return this.heuristics;
+    }
+
+    public double getBETA_CBO( )
+    {
+        return this.BETA_CBO;
+    }
+
+    public double getBETA_NAC( )
+    {
+        return this.BETA_NAC;
+    }
+
+    public double getBETA_TSP( )
+    {
+        return this.BETA_TSP;
+    }
+
+    public Configuration withHeuristics( boolean heuristics )
+    {
+        return new Builder( this ).setHeuristics( heuristics ).build( );
+    }
+
+    /**
+     * @param BETA_CBO
+     * @param BETA_NAC
+     * @param BETA_TSP
+     * @return a configuration as this one, but with the betas changed
+     */
+    public Configuration withBetas( double BETA_CBO, double BETA_NAC, double BETA_TSP )
+    {
+        return new Builder( this ).setBetas( BETA_CBO, BETA_NAC, BETA_TSP ).build( );
+    }
+
+    //------- construction of the solution paths ----------------------------
+
+    public boolean isConstraintHandling( )
+    {
+        return this.constraintHandling;
+    }
+
+    public boolean isValidByConstruction( )
+    {
+        return this.validByConstruction;
+    }
+
+    public boolean isCandidateLists( )
+    {
+        return this.candidateLists;
+    }
+
+    public int getCandidateListSize( )
+    {
+        return this.candidateListSize;
+    }
+
+    public boolean isTreeSampling( )
+    {
+        return this.treeSampling;
+    }
+
+    public boolean isPooledColony( )
+    {
+        return this.pooledColony;
+    }
+
+    public Configuration withConstraintHandling( boolean constraintHandling )
+    {
+        return new Builder( this ).setConstraintHandling( constraintHandling ).build( );
+    }
+
+    public Configuration withValidByConstruction( boolean validByConstruction )
+    {
+        return new Builder( this ).setValidByConstruction( validByConstruction ).build( );
+    }
+
+    /**
+     * @param candidateLists - true to use candidate lists
+     * @param candidateListSize
+     * @return a configuration as this one, but with the candidate lists changed
+     */
+    public Configuration withCandidateLists( boolean candidateLists, int candidateListSize )
+    {
+        return new Builder( this )
+            .setCandidateLists( candidateLists, candidateListSize )
+            .build( );
+    }
+
+    public Configuration withTreeSampling( boolean treeSampling )
+    {
+        return new Builder( this ).setTreeSampling( treeSampling ).build( );
+    }
+
+    public Configuration withPooledColony( boolean pooledColony )
+    {
+        return new Builder( this ).setPooledColony( pooledColony ).build( );
+    }
+
+    //------- options of the engine -----------------------------------------
+
+    public boolean isParallelConstruction( )
+    {
+        return this.parallelConstruction;
+    }
+
+    public int getNumberOfConstructionThreads( )
+    {
+        return this.numberOfConstructionThreads;
+    }
+
+    public boolean isParallelRuns( )
+    {
+        return this.parallelRuns;
+    }
+
+    public int getNumberOfRunThreads( )
+    {
+        return this.numberOfRunThreads;
+    }
+
+    public boolean isParallelPheromoneUpdate( )
+    {
+        return this.parallelPheromoneUpdate;
+    }
+
+    public int getParallelUpdateThreshold( )
+    {
+        return this.parallelUpdateThreshold;
+    }
+
+    public boolean isParallelEvaluation( )
+    {
+        return this.parallelEvaluation;
+    }
+
+    public boolean isLazyEvaporation( )
+    {
+        return this.lazyEvaporation;
+    }
+
+    public boolean isFitnessCache( )
+    {
+        return this.fitnessCache;
+    }
+
+    public int getFitnessCacheSize( )
+    {
+        return this.fitnessCacheSize;
+    }
+
+    public boolean isParetoArchive( )
+    {
+        return this.paretoArchive;
+    }
+
+    public int getParetoArchiveSize( )
+    {
+        return this.paretoArchiveSize;
+    }
+
+    /**
+     * @param parallelConstruction, parallelPheromoneUpdate, parallelEvaluation
+     * - true to share out each on the pool of worker threads
+     * @param numberOfConstructionThreads - number of workers in the pool
+     * @return a configuration as this one, but with the parallel options changed
+     */
+    public Configuration withParallelism(
+        boolean parallelConstruction,
+        boolean parallelPheromoneUpdate,
+        boolean parallelEvaluation,
+        int numberOfConstructionThreads )
+    {
+        return new Builder( this )
+            .setParallelism( parallelConstruction, parallelPheromoneUpdate, 
+                             parallelEvaluation, numberOfConstructionThreads )
+            .build( );
+    }
+
+    /**
+     * @param parallelRuns - true to perform the runs of a batch concurrently
+     * @param numberOfRunThreads - number of runs performed at once
+     * @return a configuration as this one, but with the parallel runs changed
+     */
+    public Configuration withParallelRuns( boolean parallelRuns, int numberOfRunThreads )
+    {
+        return new Builder( this )
+            .setParallelRuns( parallelRuns, numberOfRunThreads )
+            .build( );
+    }
+
+    public Configuration withParallelUpdateThreshold( int parallelUpdateThreshold )
+    {
+        return new Builder( this )
+            .setParallelUpdateThreshold( parallelUpdateThreshold )
+            .build( );
+    }
+
+    public Configuration withLazyEvaporation( boolean lazyEvaporation )
+    {
+        return new Builder( this ).setLazyEvaporation( lazyEvaporation ).build( );
+    }
+
+    /**
+     * @param fitnessCache - true to cache the fitness of designs
+     * @param fitnessCacheSize - number of slots, a power of two
+     * @return a configuration as this one, but with the fitness cache changed
+     */
+    public Configuration withFitnessCache( boolean fitnessCache, int fitnessCacheSize )
+    {
+        return new Builder( this ).setFitnessCache( fitnessCache, fitnessCacheSize ).build( );
+    }
+
+    /**
+     * @param paretoArchive - true to keep the trade-off front of each run
+     * @param paretoArchiveSize - maximum number of paths in the archive
+     * @return a configuration as this one, but with the Pareto archive changed
+     */
+    public Configuration withParetoArchive( boolean paretoArchive, int paretoArchiveSize )
+    {
+        return new Builder( this )
+            .setParetoArchive( paretoArchive, paretoArchiveSize )
+            .build( );
+    }
+
+    //------- the builder ----------------------------------------------------
+
+    /**
+     * Sets the fields of a configuration before it is built, starting 
+     * from the static fields of Parameters and AlgorithmParameters, or 
+     * from another configuration.
+     * 17 October 2026
+     */
+    public static final class Builder
+    {
+        // the problem instance, and the batch
+        private int problemNumber;
+        private int numberOfRuns;
+        private int numberOfIterations;
+        private long masterSeed;
+
+        // the algorithm and its parameters
+        private int algorithm;
+        private int fitness;
+        private double alpha;
+        private double mu;
+        private double rho;
+        private double MMAS_Mmax;
+        private double MMAS_Mmin;
+        private int pheromoneStrength;
+        private int antipheromoneStrength;
+        private int antiPheromonePhasePercentage;
+        private int selectedRanks;
+        private boolean preventInterference;
+        private boolean simpleACOSubtractiveAntipheromone;
+        private boolean evaporationElitism;
+        private boolean replacementElitism;
+        private boolean objectiveCBO;
+        private boolean objectiveNAC;
+        private boolean objectiveATMR;
+
+        // heuristic information
+        private boolean heuristics;
+        private double BETA_CBO;
+        private double BETA_NAC;
+        private double BETA_TSP;
+
+        // construction of the solution paths
+        private boolean constraintHandling;
+        private boolean validByConstruction;
+        private boolean candidateLists;
+        private int candidateListSize;
+        private boolean treeSampling;
+        private boolean pooledColony;
+
+        // options of the engine
+        private boolean parallelConstruction;
+        private int numberOfConstructionThreads;
+        private boolean parallelRuns;
+        private int numberOfRunThreads;
+        private boolean parallelPheromoneUpdate;
+        private int parallelUpdateThreshold;
+        private boolean parallelEvaluation;
+        private boolean lazyEvaporation;
+        private boolean fitnessCache;
+        private int fitnessCacheSize;
+        private boolean paretoArchive;
+        private int paretoArchiveSize;
+
+        /**
+         * constructor, from the current values of the static fields
+         * of Parameters and AlgorithmParameters
+         */
+        public Builder( )
+        {
+            this.problemNumber = Parameters.problemNumber;
+            this.numberOfRuns = Parameters.NUMBER_OF_RUNS;
+            this.numberOfIterations = AlgorithmParameters.NUMBER_OF_ITERATIONS;
+            this.masterSeed = Parameters.masterSeed;
+
+            this.algorithm = AlgorithmParameters.algorithm;
+            this.fitness = AlgorithmParameters.fitness;
+            this.alpha = AlgorithmParameters.alpha;
+            this.mu = AlgorithmParameters.mu;
+            this.rho = AlgorithmParameters.rho;
+            this.MMAS_Mmax = AlgorithmParameters.MMAS_Mmax;
+            this.MMAS_Mmin = AlgorithmParameters.MMAS_Mmin;
+            this.pheromoneStrength = AlgorithmParameters.pheromoneStrength;
+            this.antipheromoneStrength = AlgorithmParameters.antipheromoneStrength;
+            this.antiPheromonePhasePercentage = AlgorithmParameters.antiPheromonePhasePercentage;
+            this.selectedRanks = AlgorithmParameters.selectedRanks;
+            this.preventInterference = AlgorithmParameters.preventInterference;
+            this.simpleACOSubtractiveAntipheromone =
+                AlgorithmParameters.SIMPLE_ACO_SUBTRACTIVE_ANTIPHEROMONE;
+            this.evaporationElitism = AlgorithmParameters.evaporationElitism;
+            this.replacementElitism = AlgorithmParameters.replacementElitism;
+            this.objectiveCBO = AlgorithmParameters.objectiveCBO;
+            this.objectiveNAC = AlgorithmParameters.objectiveNAC;
+            this.objectiveATMR = AlgorithmParameters.objectiveATMR;
+
+            this.heuristics = AlgorithmParameters.heuristics;
+            this.BETA_CBO = AlgorithmParameters.BETA_CBO;
+            this.BETA_NAC = AlgorithmParameters.BETA_NAC;
+            this.BETA_TSP = AlgorithmParameters.BETA_TSP;
+
+            this.constraintHandling = AlgorithmParameters.constraintHandling;
+            this.validByConstruction = AlgorithmParameters.validByConstruction;
+            this.candidateLists = AlgorithmParameters.candidateLists;
+            this.candidateListSize = AlgorithmParameters.candidateListSize;
+            this.treeSampling = AlgorithmParameters.treeSampling;
+            this.pooledColony = AlgorithmParameters.pooledColony;
+
+            this.parallelConstruction = AlgorithmParameters.parallelConstruction;
+            this.numberOfConstructionThreads = AlgorithmParameters.numberOfConstructionThreads;
+            this.parallelRuns = AlgorithmParameters.parallelRuns;
+            this.numberOfRunThreads = AlgorithmParameters.numberOfRunThreads;
+            this.parallelPheromoneUpdate = AlgorithmParameters.parallelPheromoneUpdate;
+            this.parallelUpdateThreshold = AlgorithmParameters.parallelUpdateThreshold;
+            this.parallelEvaluation = AlgorithmParameters.parallelEvaluation;
+            this.lazyEvaporation = AlgorithmParameters.lazyEvaporation;
+            this.fitnessCache = AlgorithmParameters.fitnessCache;
+            this.fitnessCacheSize = AlgorithmParameters.fitnessCacheSize;
+            this.paretoArchive = AlgorithmParameters.paretoArchive;
+            this.paretoArchiveSize = AlgorithmParameters.paretoArchiveSize;
+        }
+
+        /**
+         * constructor, from the settings of another configuration
+         * @param configuration
+         */
+        public Builder( Configuration configuration )
+        {
+            assert configuration != null;
+
+            this.problemNumber = configuration.problemNumber;
+            this.numberOfRuns = configuration.numberOfRuns;
+            this.numberOfIterations = configuration.numberOfIterations;
+            this.masterSeed = configuration.masterSeed;
+
+            this.algorithm = configuration.algorithm;
+            this.fitness = configuration.fitness;
+            this.alpha = configuration.alpha;
+            this.mu = configuration.mu;
+            this.rho = configuration.rho;
+            this.MMAS_Mmax = configuration.MMAS_Mmax;
+            this.MMAS_Mmin = configuration.MMAS_Mmin;
+            this.pheromoneStrength = configuration.pheromoneStrength;
+            this.antipheromoneStrength = configuration.antipheromoneStrength;
+            this.antiPheromonePhasePercentage = configuration.antiPheromonePhasePercentage;
+            this.selectedRanks = configuration.selectedRanks;
+            this.preventInterference = configuration.preventInterference;
+            this.simpleACOSubtractiveAntipheromone = 
+                configuration.simpleACOSubtractiveAntipheromone;
+            this.evaporationElitism = configuration.evaporationElitism;
+            this.replacementElitism = configuration.replacementElitism;
+            this.objectiveCBO = configuration.objectiveCBO;
+            this.objectiveNAC = configuration.objectiveNAC;
+            this.objectiveATMR = configuration.objectiveATMR;
+
+            this.heuristics = configuration.heuristics;
+            this.BETA_CBO = configuration.BETA_CBO;
+            this.BETA_NAC = configuration.BETA_NAC;
+            this.BETA_TSP = configuration.BETA_TSP;
+
+            this.constraintHandling = configuration.constraintHandling;
+            this.validByConstruction = configuration.validByConstruction;
+            this.candidateLists = configuration.candidateLists;
+            this.candidateListSize = configuration.candidateListSize;
+            this.treeSampling = configuration.treeSampling;
+            this.pooledColony = configuration.pooledColony;
+
+            this.parallelConstruction = configuration.parallelConstruction;
+            this.numberOfConstructionThreads = configuration.numberOfConstructionThreads;
+            this.parallelRuns = configuration.parallelRuns;
+            this.numberOfRunThreads = configuration.numberOfRunThreads;
+            this.parallelPheromoneUpdate = configuration.parallelPheromoneUpdate;
+            this.parallelUpdateThreshold = configuration.parallelUpdateThreshold;
+            this.parallelEvaluation = configuration.parallelEvaluation;
+            this.lazyEvaporation = configuration.lazyEvaporation;
+            this.fitnessCache = configuration.fitnessCache;
+            this.fitnessCacheSize = configuration.fitnessCacheSize;
+            this.paretoArchive = configuration.paretoArchive;
+            this.paretoArchiveSize = configuration.paretoArchiveSize;
+        }
+
+        public Builder setProblemNumber( int problemNumber )
+        {
+            assert problemNumber >= 0 && problemNumber < Parameters.NUMBER_OF_PROBLEMS;
+            this.problemNumber = problemNumber;
+            return this;
+        }
+
+        public Builder setNumberOfRuns( int numberOfRuns )
+        {
+            assert numberOfRuns > 0;
+            this.numberOfRuns = numberOfRuns;
+            return this;
+        }
+
+        public Builder setNumberOfIterations( int numberOfIterations )
+        {
+            assert numberOfIterations > 0;
+            this.numberOfIterations = numberOfIterations;
+            return this;
+        }
+
+        public Builder setMasterSeed( long masterSeed )
+        {
+            this.masterSeed = masterSeed;
+            return this;
+        }
+
+        public Builder setAlgorithm( int algorithm )
+        {
+            assert algorithm == AlgorithmParameters.SIMPLE_ACO || 
+                   algorithm == AlgorithmParameters.MMAS;
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        public Builder setFitness( int fitness )
+        {
+            assert fitness >= AlgorithmParameters.CBO && 
+                   fitness <= AlgorithmParameters.TSP_PATH_LENGTH;
+            this.fitness = fitness;
+            return this;
+        }
+
+        public Builder setAlpha( double alpha )
+        {
+            assert alpha >= 0.0;
+            this.alpha = alpha;
+            return this;
+        }
+
+        public Builder setMu( double mu )
+        {
+            assert mu >= 0.0;
+            this.mu = mu;
+            return this;
+        }
+
+        public Builder setRho( double rho )
+        {
+            assert rho >= 0.0 && rho <= 1.0;
+            this.rho = rho;
+            return this;
+        }
+
+        public Builder setPheromoneLimits( double MMAS_Mmin, double MMAS_Mmax )
+        {
+            assert MMAS_Mmin >= 0.0 && MMAS_Mmin <= MMAS_Mmax;
+            this.MMAS_Mmin = MMAS_Mmin;
+            this.MMAS_Mmax = MMAS_Mmax;
+            return this;
+        }
+
+        public Builder setPheromoneStrength( int pheromoneStrength )
+        {
+            assert pheromoneStrength >= AlgorithmParameters.MMAS_PHEROMONE_SINGLE &&
+                   pheromoneStrength <= AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
+            this.pheromoneStrength = pheromoneStrength;
+            return this;
+        }
+
+        public Builder setAntipheromoneStrength( int antipheromoneStrength )
+        {
+            assert antipheromoneStrength >= AlgorithmParameters.ANTIPHEROMONE_STRENGTH_SINGLE &&
+                   antipheromoneStrength <= AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
+            this.antipheromoneStrength = antipheromoneStrength;
+            return this;
+        }
+
+        public Builder setAntiPheromonePhasePercentage( int antiPheromonePhasePercentage )
+        {
+            assert antiPheromonePhasePercentage >= 0 && antiPheromonePhasePercentage <= 100;
+            this.antiPheromonePhasePercentage = antiPheromonePhasePercentage;
+            return this;
+        }
+
+        public Builder setSelectedRanks( int selectedRanks )
+        {
+            assert selectedRanks > 0 && selectedRanks <= AlgorithmParameters.NUMBER_OF_ANTS;
+            this.selectedRanks = selectedRanks;
+            return this;
+        }
+
+        public Builder setPreventInterference( boolean preventInterference )
+        {
+            this.preventInterference = preventInterference;
+            return this;
+        }
+
+        public Builder setSimpleACOSubtractiveAntipheromone( boolean subtractive )
+        {
+            this.simpleACOSubtractiveAntipheromone = subtractive;
+            return this;
+        }
+
+        public Builder setEvaporationElitism( boolean evaporationElitism )
+        {
+            this.evaporationElitism = evaporationElitism;
+            return this;
+        }
+
+        public Builder setReplacementElitism( boolean replacementElitism )
+        {
+            this.replacementElitism = replacementElitism;
+            return this;
+        }
+
+        public Builder setObjectives(
+            boolean objectiveCBO, boolean objectiveNAC, boolean objectiveATMR )
+        {
+            this.objectiveCBO = objectiveCBO;
+            this.objectiveNAC = objectiveNAC;
+            this.objectiveATMR = objectiveATMR;
+            return this;
+        }
+
+        public Builder setHeuristics( boolean heuristics )
+        {
+            this.heuristics = heuristics;
+            return this;
+        }
+
+        public Builder setBetas( double BETA_CBO, double BETA_NAC, double BETA_TSP )
+        {
+            assert BETA_CBO >= 0.0 && BETA_NAC >= 0.0 && BETA_TSP >= 0.0;
+            this.BETA_CBO = BETA_CBO;
+            this.BETA_NAC = BETA_NAC;
+            this.BETA_TSP = BETA_TSP;
+            return this;
+        }
+
+        public Builder setConstraintHandling( boolean constraintHandling )
+        {
+            this.constraintHandling = constraintHandling;
+            return this;
+        }
+
+        public Builder setValidByConstruction( boolean validByConstruction )
+        {
+            this.validByConstruction = validByConstruction;
+            return this;
+        }
+
+        public Builder setCandidateLists( boolean candidateLists, int candidateListSize )
+        {
+            assert candidateListSize > 0;
+            this.candidateLists = candidateLists;
+            this.candidateListSize = candidateListSize;
+            return this;
+        }
+
+        public Builder setTreeSampling( boolean treeSampling )
+        {
+            this.treeSampling = treeSampling;
+            return this;
+        }
+
+        public Builder setPooledColony( boolean pooledColony )
+        {
+            this.pooledColony = pooledColony;
+            return this;
+        }
+
+        public Builder setParallelism(
+            boolean parallelConstruction,
+            boolean parallelPheromoneUpdate,
+            boolean parallelEvaluation,
+            int numberOfConstructionThreads )
+        {
+            assert numberOfConstructionThreads > 0;
+            this.parallelConstruction = parallelConstruction;
+            this.parallelPheromoneUpdate = parallelPheromoneUpdate;
+            this.parallelEvaluation = parallelEvaluation;
+            this.numberOfConstructionThreads = numberOfConstructionThreads;
+            return this;
+        }
+
+        public Builder setParallelRuns( boolean parallelRuns, int numberOfRunThreads )
+        {
+            assert numberOfRunThreads > 0;
+            this.parallelRuns = parallelRuns;
+            this.numberOfRunThreads = numberOfRunThreads;
+            return this;
+        }
+
+        public Builder setParallelUpdateThreshold( int parallelUpdateThreshold )
+        {
+            assert parallelUpdateThreshold >= 0;
+            this.parallelUpdateThreshold = parallelUpdateThreshold;
+            return this;
+        }
+
+        public Builder setLazyEvaporation( boolean lazyEvaporation )
+        {
+            this.lazyEvaporation = lazyEvaporation;
+            return this;
+        }
+
+        public Builder setFitnessCache( boolean fitnessCache, int fitnessCacheSize )
+        {
+            assert fitnessCacheSize > 0 && Integer.bitCount( fitnessCacheSize ) == 1;
+            this.fitnessCache = fitnessCache;
+            this.fitnessCacheSize = fitnessCacheSize;
+            return this;
+        }
+
+        public Builder setParetoArchive( boolean paretoArchive, int paretoArchiveSize )
+        {
+            assert paretoArchiveSize >= 2;
+            this.paretoArchive = paretoArchive;
+            this.paretoArchiveSize = paretoArchiveSize;
+            return this;
+        }
+
+        /**
+         * @return a configuration of the settings of this builder
+         */
+        public Configuration build( )
+        {
+            return new Configuration( this );
+        }
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
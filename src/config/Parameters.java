@@ -35,6 +35,11 @@ public class Parameters
     public static final int NUMBER_OF_PROBLEMS = TSP_RAT195 + 1;
 
     public static int NUMBER_OF_RUNS = 50;
+    
+    // 17 October 2026
+    // master seed from which the random streams of every run and ant are split;
+    // set to a seed recorded in RandomSeed.dat to replay an experiment
+    public static long masterSeed = System.nanoTime( );
    
     // 8 December 2015 - for full robustness check in the generation of solutions
     // turn off for faster execution when happy with solution generation
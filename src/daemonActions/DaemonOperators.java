@@ -8,6 +8,7 @@ import config.AlgorithmParameters;
 import config.Parameters;
 import engine.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.SortedMap;
@@ -245,201 +246,6 @@ public class DaemonOperators
         return c;
     }
     
-    /**
-     * calculate fitness values for a design solution path
-     * using the graph structure and the use matrix
-     * 
-     * IMPORTANT: a path is made up of a list of nodes,
-     * but the number of the node is the number of the element 
-     * (attribute or method) PLUS ONE FOR THE NEST
-     * 
-     * So when indexing into the use matrix, we subtract one from
-     * the value of the number
-     * 
-     * @param path
-     * @param problem controller
-     */
-    public static void calculateDesignSolutionPathFitness( Path path, ProblemController problemController )
-    {
-        assert path != null;
-        assert problemController != null;
-        
-        final int[ ][ ] useMatrix = problemController.getUseMatrix( );
-        assert useMatrix != null;
-
-        final int numberOfAttributes = problemController.getNumberOfUniqueData( );
-        assert numberOfAttributes > 0;
-        
-        final int numberOfMethods = problemController.getNumberOfUniqueActions( );
-        assert numberOfMethods > 0;
-        
-        // for calculation of CBO
-        final int numberOfUses = problemController.getNumberOfUses( );
-        assert numberOfUses > 0;
-        int internalUses = 0;
-        
-        // for calculation of NAC     
-        final int numberOfClasses = problemController.getNumberOfClasses( );
-        assert numberOfClasses > 0;
-        int[ ] elementCounts = new int[ numberOfClasses ];
-        int classCounter = 0;
-        
-        // for calculation of ATMR
-        double[ ] ratios = new double[ numberOfClasses ];
-        
-        List< Method > classMethodList = new ArrayList< >( );
-        List< Attribute > classAttributeList = new ArrayList< >( );
-        
-        // now iterate along the nodes in the solution path
-        Iterator< Node > it = path.iterator( );
-        
-        while( it.hasNext( ) )
-        {
-            Node n = it.next( );
-            
-            if( n instanceof Nest )
-            {
-                // do nothing
-            }
-            else if( n instanceof Method )
-            {
-                classMethodList.add( (Method) n );
-            }
-            else if( n instanceof Attribute )
-            {
-                classAttributeList.add( (Attribute) n );
-            }
-            else if( n instanceof EndOfClass )
-            {
-                // we have a class, so calculate fitness
-                
-                int[ ] methodNumbers = new int[ classMethodList.size( ) ];
-                int[ ] attributeNumbers = new int[ classAttributeList.size( ) ];
-                
-                int mIndex = 0;
-                int aIndex = 0;
-                
-                for( Method m : classMethodList )
-                {
-                    int number = m.getNumber( );
-                    number -= numberOfAttributes; 
-                    assert number >= 0;
-                    assert number <= numberOfMethods;
-                    
-                    methodNumbers[ mIndex ] = number - 1;   // minus one for the nest
-                    mIndex++;
-                }    
-                
-                for( Attribute a : classAttributeList )
-                {
-                    int number = a.getNumber( );
-                    attributeNumbers[ aIndex ] = number - 1; // minus one for the nest
-                    aIndex++;
-                }    
-                
-                if( mIndex > 0 && aIndex > 0 ) // are there both attributes and methods?
-                {
-                    // for calculation of CBO
-                    for( int i = 0; i < methodNumbers.length; i++ )
-                    {
-                        for( int j = 0; j < attributeNumbers.length; j++ )
-                        {
-                            if( useMatrix[ methodNumbers[ i ] ][ attributeNumbers[ j ] ] == 1 )
-                            {
-                                internalUses++; // must be an internal use
-                            }
-                        }
-                    }
-                    
-                    // for calculation of ATMR
-                    ratios[ classCounter ] =
-                        (double) classAttributeList.size( ) / (double) classMethodList.size( );
-                }
-                
-                // check post-conditions for this class
-                assert classAttributeList.size( ) == attributeNumbers.length;
-                assert classMethodList.size( ) == methodNumbers.length;
-                
-                // for calculation of NAC 
-                // (doesn't matter if class lacks attributes or methods)  
-                elementCounts[ classCounter ] = 
-                    classAttributeList.size( ) + classMethodList.size( );
-                
-                classCounter++;
-                
-                // lastly, clear out the lists for next class
-                classMethodList.clear( );
-                classAttributeList.clear( );
-            }
-            else
-            {
-                assert true : "impossible node type!!";
-            }
-             
-        }   // end while there's another node in the solution path
-        
-        // establish post-conditions for the solution path
-        assert classCounter == numberOfClasses;
-        
-        // it's possible that constraint handling could be turned off,
-        // so make a check first 1 February 2016
-        if( AlgorithmParameters.constraintHandling == true )
-        {
-            if( internalUses == numberOfUses )
-            {
-                System.out.println( "suspect path is: ---------------------");
-                Iterator< Node > it2 = path.iterator( );
-                while( it2.hasNext( ) )
-                {
-                    Node n = it2.next( );
-                    System.out.println( "\t" + n.getNumber( ) + " " + n.getName( ) );
-                }
-            }
-        
-            assert internalUses < numberOfUses :
-                "internal uses is: " + internalUses +
-                ", number of uses is: " + numberOfUses;
-        }
-        
-        // calculate CBO as a minimisation function       
-        final double CBO = 1.0 - ( (double) internalUses / (double) numberOfUses );
-        assert CBO > 0.0;
-        assert CBO <= 1.0;
-
-//        if( CBO == 0.0 )
-//        {
-//            System.out.println("In Daemon operators, line 404, CBO is: " + CBO + "  " + 
-//                                "internal uses is: " + internalUses + "  " +
-//                                "number of uses is: " + numberOfUses);
-//        }
-        
-        path.setCBO( CBO );
-        
-        // calculate NAC
-        final double NAC = Utility.standardDeviation( elementCounts );
-        assert NAC >= 0.0;
-        
-        // scale NAC depending on the design problem
-        final double scaledNAC = scaleNAC( NAC );
-
-        path.setEleganceNAC( scaledNAC );
-        
-        // 4 December 2015 - comment out to focus on NAC
-        // calculate ATMR
-        // final double ATMR = Utility.standardDeviation( ratios );
-        // assert ATMR >= 0.0;
-        // path.setEleganceATMR( ATMR );
-        
-        // 29 November 2015
-        // calculate (scaledCBO and NAC) COMBINED
-        final double combined = ( CBO + scaledNAC ) * 0.5;
-        assert combined >= 0.0;
-        assert combined <= 1.0;
-        
-        path.setCombined( combined );
-    }
-    
-    
     /**
      * scaleNAC
      * 
@@ -447,14 +253,15 @@ public class DaemonOperators
      * in the range 0.0..1.0. 
      * See AlgorithmParameters.java for definition of scale factors
      * @param rawNAC the raw NAC value
+     * @param problemNumber, giving the scale factor 17 October 2026
      * @return scaledNAC
      */
-    private static double scaleNAC( double rawNAC )
+    static double scaleNAC( double rawNAC, int problemNumber )
     {
         double result = 0.0;
         double temp = 0.0;
         
-        switch( Parameters.problemNumber )
+        switch( problemNumber )
         {
             case Parameters.CBS:
                 // truncate,
@@ -532,42 +339,21 @@ public class DaemonOperators
         assert path != null;
         assert problemController != null;
         
-        // get the first node in the path
-        Node current = path.get( 0 );
-        int currentNodeNumber = current.getNumber( );
-        
-        Node next = null;
-        Iterator< Node > it = path.iterator( );
-
-        double runningTotal = 0.0;
-        int counter = 0;
-        
         final TSP tsp = problemController.getTSP( );
         assert tsp != null;
         final double[ ][ ] distances = tsp.getDistances( );
         assert distances != null;
         
-        while( it.hasNext( ) )
+        // 17 October 2026, along the node numbers of the path
+        final int[ ] ids = path.getIds( );
+        final int pathSize = path.size( );
+        
+        double runningTotal = 0.0;
+        
+        for( int i = 1; i < pathSize; i++ )
         {
-            if( counter == 0 )
-            {
-                // do nothing, we already have the first node...
-            }
-            else
-            {
-                next = it.next( );
-
-                final int nextNodeNumber = next.getNumber( );
-
-                // calculate the distance for the edge
-                final double edgeDistance = distances[ currentNodeNumber ][ nextNodeNumber ];
-                runningTotal += edgeDistance;
-
-                // advance through the nodes of the path
-                current = next;
-                currentNodeNumber = current.getNumber( );
-            }
-            counter++;
+            // calculate the distance for the edge
+            runningTotal += distances[ ids[ i - 1 ] ][ ids[ i ] ];
         }
         
         assert runningTotal > 0.0;
@@ -0,0 +1,303 @@
+/*
+ * DesignEvaluator.java
+ * 17 October 2026
+ */
+
+package daemonActions;
+
+import config.Configuration;
+import engine.Node;
+import engine.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import myUtils.Utility;
+import problem.ProblemController;
+
+/**
+ * Evaluates software design solution paths straight from the node
+ * numbers and kinds of the path, without constructing a design of
+ * classes, methods and attributes.
+ *
+ * Each thread evaluating paths has its own scratch arrays, allocated
+ * on its first evaluation and reused thereafter, so that evaluation
+ * allocates nothing, and one evaluator may be shared by the workers
+ * of a pool.
+ *
+ * evaluateFitness( ) gives the CBO, NAC and combined fitness used
+ * by the search; evaluateWithCBO( ) gives NAC and combined fitness
+ * for a path whose CBO is already known, e.g. from the fitness cache.
+ *
+ * @author cl-simons
+ */
+
+public class DesignEvaluator
+{
+    /** the use matrix as bits, one row per method */
+    private final long[ ][ ] useBits;
+
+    /** number of attributes */
+    private final int numberOfAttributes;
+
+    /** number of methods */
+    private final int numberOfMethods;
+
+    /** number of classes in a design */
+    private final int numberOfClasses;
+
+    /** number of uses in the problem */
+    private final int numberOfUses;
+
+    /** the scratch arrays of each thread */
+    private final ThreadLocal< Scratch > scratch;
+
+    /** the problem number, giving the scale of NAC */
+    private final int problemNumber;
+
+    /** true if the constraint on uses is checked */
+    private final boolean constraintHandling;
+
+    /**
+     * constructor
+     * 17 October 2026
+     * @param problemController, with its use matrix generated
+     * @param configuration of the experiment
+     */
+    public DesignEvaluator( ProblemController problemController, Configuration configuration )
+    {
+        assert problemController != null;
+        assert configuration != null;
+
+        this.problemNumber = configuration.getProblemNumber( );
+        this.constraintHandling = configuration.isConstraintHandling( );
+
+        this.useBits = problemController.getUseBits( );
+        this.numberOfAttributes = problemController.getNumberOfUniqueData( );
+        this.numberOfMethods = problemController.getNumberOfUniqueActions( );
+        this.numberOfClasses = problemController.getNumberOfClasses( );
+        this.numberOfUses = problemController.getNumberOfUses( );
+
+        assert this.numberOfAttributes > 0;
+        assert this.numberOfMethods > 0;
+        assert this.numberOfClasses > 0;
+        assert this.numberOfUses > 0;
+
+        this.scratch = ThreadLocal.withInitial( ( ) -> new Scratch(
+            this.numberOfAttributes, this.numberOfMethods, this.numberOfClasses ) );
+    }
+
+    /**
+     * Calculate the CBO, NAC and combined fitness of a design solution path
+     * @param path, a complete design solution path
+     */
+    public void evaluateFitness( Path path )
+    {
+        assert path != null;
+
+        final Scratch s = this.scratch.get( );
+        final long[ ] classAttributes = s.classAttributes;
+        final int[ ] elementCounts = s.elementCounts;
+
+        int internalUses = 0;
+        int classCounter = 0;
+        int mIndex = 0;
+        int aIndex = 0;
+
+        final int[ ] ids = path.getIds( );
+        final byte[ ] kinds = path.getKinds( );
+        final int pathSize = path.size( );
+
+        for( int k = 0; k < pathSize; k++ )
+        {
+            switch( kinds[ k ] )
+            {
+                case Path.NEST:
+                    // do nothing
+                    break;
+
+                case Path.METHOD:
+                    s.methodNumbers[ mIndex ] = methodOf( ids[ k ] );
+                    mIndex++;
+                    break;
+
+                case Path.ATTRIBUTE:
+                    final int attribute = attributeOf( ids[ k ] );
+                    classAttributes[ attribute >>> 6 ] |= 1L << attribute;
+                    aIndex++;
+                    break;
+
+                case Path.END_OF_CLASS:
+                    if( mIndex > 0 && aIndex > 0 )
+                    {
+                        // every use of an attribute of the class is an internal use
+                        for( int i = 0; i < mIndex; i++ )
+                        {
+                            final long[ ] uses = this.useBits[ s.methodNumbers[ i ] ];
+
+                            for( int w = 0; w < classAttributes.length; w++ )
+                            {
+                                internalUses += Long.bitCount( uses[ w ] & classAttributes[ w ] );
+                            }
+                        }
+                    }
+
+                    elementCounts[ classCounter ] = aIndex + mIndex;
+                    classCounter++;
+
+                    mIndex = 0;
+                    aIndex = 0;
+                    Arrays.fill( classAttributes, 0L );
+                    break;
+
+                default:
+                    assert false : "impossible node type!!";
+                    break;
+            }
+        }
+
+        assert classCounter == this.numberOfClasses;
+
+        // it's possible that constraint handling could be turned off,
+        // so make a check first
+        if( this.constraintHandling == true )
+        {
+            if( internalUses == this.numberOfUses )
+            {
+                System.out.println( "suspect path is: ---------------------");
+                Iterator< Node > it = path.iterator( );
+                while( it.hasNext( ) )
+                {
+                    Node n = it.next( );
+                    System.out.println( "\t" + n.getNumber( ) + " " + n.getName( ) );
+                }
+            }
+            
+            assert internalUses < this.numberOfUses :
+                "internal uses is: " + internalUses +
+                ", number of uses is: " + this.numberOfUses;
+        }
+
+        // CBO as a minimisation function
+        final double CBO = 1.0 - ( (double) internalUses / (double) this.numberOfUses );
+        assert CBO > 0.0;
+        assert CBO <= 1.0;
+        path.setCBO( CBO );
+
+        setNACAndCombined( path, CBO, elementCounts );
+    }
+
+    /**
+     * Calculate the NAC and combined fitness of a design solution path
+     * whose CBO is already set, from the sizes of its classes in path
+     * order, exactly as evaluateFitness( ) would.
+     * @param path, a complete design solution path, with its CBO
+     */
+    public void evaluateWithCBO( Path path )
+    {
+        assert path != null;
+
+        final int[ ] elementCounts = this.scratch.get( ).elementCounts;
+        int classCounter = 0;
+        int classSize = 0;
+
+        final byte[ ] kinds = path.getKinds( );
+        final int pathSize = path.size( );
+
+        for( int k = 0; k < pathSize; k++ )
+        {
+            switch( kinds[ k ] )
+            {
+                case Path.NEST:
+                    // do nothing
+                    break;
+
+                case Path.METHOD:
+                case Path.ATTRIBUTE:
+                    classSize++;
+                    break;
+
+                case Path.END_OF_CLASS:
+                    elementCounts[ classCounter ] = classSize;
+                    classCounter++;
+                    classSize = 0;
+                    break;
+
+                default:
+                    assert false : "impossible node type!!";
+                    break;
+            }
+        }
+
+        assert classCounter == this.numberOfClasses;
+
+        setNACAndCombined( path, path.getCBO( ), elementCounts );
+    }
+
+    /**
+     * @param path, to receive NAC and combined fitness
+     * @param CBO of the path
+     * @param elementCounts, the class sizes in path order
+     */
+    private void setNACAndCombined( Path path, double CBO, int[ ] elementCounts )
+    {
+        final double NAC = Utility.standardDeviation( elementCounts );
+        assert NAC >= 0.0;
+        final double scaledNAC = DaemonOperators.scaleNAC( NAC, this.problemNumber );
+        path.setEleganceNAC( scaledNAC );
+
+        final double combined = ( CBO + scaledNAC ) * 0.5;
+        assert combined >= 0.0;
+        assert combined <= 1.0;
+        path.setCombined( combined );
+    }
+
+    /**
+     * In a solution path, the nest is numbered zero, the attributes 
+     * follow from one, and the methods follow the attributes.
+     * @param nodeNumber of an attribute in a solution path
+     * @return attribute number, as in the use matrix
+     */
+    private int attributeOf( int nodeNumber )
+    {
+        final int attribute = nodeNumber - 1; // minus one for the nest
+        assert attribute >= 0 && attribute < this.numberOfAttributes :
+            "node number is: " + nodeNumber;
+        return attribute;
+    }
+
+    /**
+     * @param nodeNumber of a method in a solution path
+     * @return method number, as in the use matrix
+     */
+    private int methodOf( int nodeNumber )
+    {
+        final int method = nodeNumber - this.numberOfAttributes - 1; // minus one for the nest
+        assert method >= 0 && method < this.numberOfMethods :
+            "node number is: " + nodeNumber;
+        return method;
+    }
+
+    /**
+     * the scratch arrays of one thread
+     */
+    private static class Scratch
+    {
+        /** the method numbers of a class */
+        final int[ ] methodNumbers;
+
+        /** the attributes of a class, as bits */
+        final long[ ] classAttributes;
+
+        /** for each class, the number of elements, attributes and methods */
+        final int[ ] elementCounts;
+
+        Scratch( int numberOfAttributes, int numberOfMethods, int numberOfClasses )
+        {
+            this.methodNumbers = new int[ numberOfMethods ];
+            this.classAttributes = new long[ ( numberOfAttributes + 63 ) / 64 ];
+            this.elementCounts = new int[ numberOfClasses ];
+        }
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
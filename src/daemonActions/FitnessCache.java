@@ -0,0 +1,342 @@
+/*
+ * FitnessCache.java
+ * 17 October 2026
+ */
+
+package daemonActions;
+
+import engine.Path;
+import java.util.Arrays;
+
+/**
+ * A bounded cache of the CBO of software design solution paths.
+ *
+ * Many different paths encode the same design: only the partition
+ * of the attributes and methods into classes matters, not the order
+ * of the elements within a class, nor the order of the classes.
+ * So each path is given a canonical key, one bitset of elements per
+ * class, with the classes sorted by their bitsets, and a 64-bit hash
+ * of that key selects a slot of the cache. The slot is direct mapped,
+ * i.e. a newer design simply replaces the design held in the slot.
+ *
+ * Only CBO, the costly part of the fitness, depends on the partition
+ * alone. NAC is the standard deviation of the class sizes, summed in
+ * path order, so its rounding depends on the order of the classes;
+ * it is cheap, and is calculated afresh for each path, see
+ * DesignEvaluator.evaluateWithCBO( ). So a hit, with the NAC and
+ * combined fitness then calculated, gives exactly the fitness
+ * a fresh evaluation of the path would.
+ *
+ * The full key is held with each slot, so a hash collision is a miss,
+ * never a wrong CBO.
+ *
+ * Keys may be made concurrently, each into its own array, but lookups
+ * and stores must be made by one thread at a time.
+ *
+ * @author cl-simons
+ */
+
+public class FitnessCache
+{
+    /** number of classes in a design */
+    private final int numberOfClasses;
+
+    /** number of 64-bit words in the bitset of a class */
+    private final int wordsPerClass;
+
+    /** number of words in a key */
+    private final int keyLength;
+
+    /** number of slots, a power of two */
+    private final int capacity;
+
+    /** for each slot, true if it holds a design */
+    private final boolean[ ] occupied;
+
+    /** for each slot, the hash of the key held */
+    private final long[ ] hashes;
+
+    /** the keys held, keyLength words per slot */
+    private final long[ ] keys;
+
+    /** for each slot, the CBO of the design held */
+    private final double[ ] CBOs;
+
+    /** number of lookups which found the design */
+    private long hits;
+
+    /** number of lookups which did not */
+    private long misses;
+
+    /**
+     * constructor, for an empty cache
+     * @param numberOfAttributes
+     * @param numberOfMethods
+     * @param numberOfClasses
+     * @param capacity - number of slots, a power of two
+     */
+    public FitnessCache(
+        int numberOfAttributes,
+        int numberOfMethods,
+        int numberOfClasses,
+        int capacity )
+    {
+        assert numberOfAttributes > 0;
+        assert numberOfMethods > 0;
+        assert numberOfClasses > 0;
+        assert capacity > 0 && Integer.bitCount( capacity ) == 1 :
+            "capacity is: " + capacity;
+
+        this.numberOfClasses = numberOfClasses;
+        this.wordsPerClass = ( numberOfAttributes + numberOfMethods + 63 ) / 64;
+        this.keyLength = numberOfClasses * this.wordsPerClass;
+        this.capacity = capacity;
+
+        this.occupied = new boolean[ capacity ];
+        this.hashes = new long[ capacity ];
+        this.keys = new long[ capacity * this.keyLength ];
+        this.CBOs = new double[ capacity ];
+
+        clear( );
+    }
+
+    /**
+     * empty the cache, and reset the counts of hits and misses
+     */
+    public void clear( )
+    {
+        Arrays.fill( this.occupied, false );
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * @return number of words in a key
+     */
+    public int keyLength( )
+    {
+        return this.keyLength;
+    }
+
+    /**
+     * Make the canonical key of a design solution path.
+     * The element of an attribute numbered n in the path is bit n - 1,
+     * and that of a method numbered n is bit n - 1 too, as the methods
+     * are numbered after the attributes (the nest being zero).
+     * @param path, a complete design solution path
+     * @param key, of keyLength( ) words, to receive the key
+     * @return the hash of the key
+     */
+    public long makeKey( Path path, long[ ] key )
+    {
+        assert path != null;
+        assert key != null && key.length == this.keyLength;
+
+        Arrays.fill( key, 0L );
+
+        final int[ ] ids = path.getIds( );
+        final byte[ ] kinds = path.getKinds( );
+        final int pathSize = path.size( );
+        int classCounter = 0;
+
+        for( int k = 0; k < pathSize; k++ )
+        {
+            switch( kinds[ k ] )
+            {
+                case Path.NEST:
+                    // do nothing
+                    break;
+
+                case Path.ATTRIBUTE:
+                case Path.METHOD:
+                    final int element = ids[ k ] - 1; // minus one for the nest
+                    assert element >= 0;
+                    key[ classCounter * this.wordsPerClass + ( element >>> 6 ) ] |= 1L << element;
+                    break;
+
+                case Path.END_OF_CLASS:
+                    classCounter++;
+                    break;
+
+                default:
+                    assert false : "impossible node type!!";
+                    break;
+            }
+        }
+
+        assert classCounter == this.numberOfClasses;
+
+        sortClasses( key );
+
+        long hash = 0L;
+        for( int w = 0; w < this.keyLength; w++ )
+        {
+            hash = mix( hash ^ key[ w ] );
+        }
+
+        return hash;
+    }
+
+    /**
+     * Look up a design and, if found, record its CBO with the path
+     * @param hash of the key
+     * @param key, as made by makeKey( )
+     * @param path to receive the CBO
+     * @return true if the design was found
+     */
+    public boolean lookup( long hash, long[ ] key, Path path )
+    {
+        assert key != null && key.length == this.keyLength;
+        assert path != null;
+
+        final int slot = slotOf( hash );
+
+        if( this.occupied[ slot ] &&
+            this.hashes[ slot ] == hash &&
+            holds( slot, key ) )
+        {
+            path.setCBO( this.CBOs[ slot ] );
+            this.hits++;
+            return true;
+        }
+
+        this.misses++;
+        return false;
+    }
+
+    /**
+     * Store the CBO of a design, replacing whatever
+     * design was held in its slot
+     * @param hash of the key
+     * @param key, as made by makeKey( )
+     * @param path, whose CBO has been calculated
+     */
+    public void store( long hash, long[ ] key, Path path )
+    {
+        assert key != null && key.length == this.keyLength;
+        assert path != null;
+
+        final int slot = slotOf( hash );
+
+        this.occupied[ slot ] = true;
+        this.hashes[ slot ] = hash;
+        System.arraycopy( key, 0, this.keys, slot * this.keyLength, this.keyLength );
+        this.CBOs[ slot ] = path.getCBO( );
+    }
+
+    /**
+     * @return number of lookups which found the design
+     */
+    public long getHits( )
+    {
+        return this.hits;
+    }
+
+    /**
+     * @return number of lookups which did not find the design
+     */
+    public long getMisses( )
+    {
+        return this.misses;
+    }
+
+    /**
+     * @param hash
+     * @return the slot for the hash
+     */
+    private int slotOf( long hash )
+    {
+        return (int) ( hash >>> 32 ) & ( this.capacity - 1 );
+    }
+
+    /**
+     * @param slot
+     * @param key
+     * @return true if the slot holds the key
+     */
+    private boolean holds( int slot, long[ ] key )
+    {
+        final int offset = slot * this.keyLength;
+
+        for( int w = 0; w < this.keyLength; w++ )
+        {
+            if( this.keys[ offset + w ] != key[ w ] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * sort the class bitsets of a key into ascending order, in place;
+     * an insertion sort, as there are few classes
+     * @param key
+     */
+    private void sortClasses( long[ ] key )
+    {
+        for( int i = 1; i < this.numberOfClasses; i++ )
+        {
+            for( int j = i; j > 0 && compareClasses( key, j - 1, j ) > 0; j-- )
+            {
+                swapClasses( key, j - 1, j );
+            }
+        }
+    }
+
+    /**
+     * @param key
+     * @param a - a class of the key
+     * @param b - another class of the key
+     * @return negative, zero or positive as class a is below,
+     * equal to or above class b
+     */
+    private int compareClasses( long[ ] key, int a, int b )
+    {
+        final int offsetA = a * this.wordsPerClass;
+        final int offsetB = b * this.wordsPerClass;
+
+        for( int w = this.wordsPerClass - 1; w >= 0; w-- )
+        {
+            final int comparison = Long.compareUnsigned( key[ offsetA + w ], key[ offsetB + w ] );
+            if( comparison != 0 )
+            {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param key
+     * @param a - a class of the key
+     * @param b - another class of the key
+     */
+    private void swapClasses( long[ ] key, int a, int b )
+    {
+        final int offsetA = a * this.wordsPerClass;
+        final int offsetB = b * this.wordsPerClass;
+
+        for( int w = 0; w < this.wordsPerClass; w++ )
+        {
+            final long temp = key[ offsetA + w ];
+            key[ offsetA + w ] = key[ offsetB + w ];
+            key[ offsetB + w ] = temp;
+        }
+    }
+
+    /**
+     * the finalising mix of SplitMix64
+     * @param z
+     * @return z, well mixed
+     */
+    private static long mix( long z )
+    {
+        z = ( z ^ ( z >>> 30 ) ) * 0xBF58476D1CE4E5B9L;
+        z = ( z ^ ( z >>> 27 ) ) * 0x94D049BB133111EBL;
+        return z ^ ( z >>> 31 );
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
@@ -7,12 +7,13 @@
 
 package engine;
 
-import config.AlgorithmParameters;
+import config.Configuration;
 import config.Parameters;
 import static engine.Ant.END_OF_CLASS;
 import java.util.*;
 import pheromone.AlphaMatrix;
-import myUtils.Utility;
+import myUtils.RandomStream;
+import myUtils.SamplingTree;
 import problem.*;
 
 /**
@@ -25,6 +26,12 @@ public class Ant
     /** end of class string */
     protected static final String END_OF_CLASS = "end of class";
     
+    /** node number of the nest, where every software design path starts */
+    protected static final int NEST_NUMBER = 0;
+    
+    /** draws rejected from a sampling tree before the roulette wheel is used instead */
+    protected static final int MAXIMUM_REJECTIONS = 8;
+    
     /** reference to the list of attribute and method path */
     protected List< Node > amList;
     
@@ -51,6 +58,57 @@ public class Ant
     
     protected final List< Node > tspNodes;
     
+    /** this ant's own stream of random numbers 17 October 2026 */
+    protected RandomStream random;
+    
+    /** the configuration of the experiment 17 October 2026 */
+    protected final Configuration configuration;
+    
+    /** the problem instance, as configured */
+    protected final int problemNumber;
+    
+    /** 
+     * the path to construct into, reused from one iteration to the next, 
+     * or null to construct into a new path 17 October 2026
+     */
+    protected Path pathBuffer;
+    
+    // 17 October 2026, the construction kernel
+    /** the nodes of the problem instance, indexed by node number */
+    protected final Node[ ] nodeTable;
+    
+    /** the kind of each node, as in Path, indexed by node number */
+    protected final byte[ ] kindTable;
+    
+    /** the numbers of the nodes still to be visited */
+    protected final WorkingSet workingSet;
+    
+    /** reusable roulette wheel, one slot per member of the working set */
+    protected final double[ ] probabilities;
+    
+    /** the node numbers of the path being constructed, in order */
+    protected final int[ ] tour;
+    protected int tourLength;
+    
+    /** for TSP, the nearest neighbours of each city, or null if not used */
+    protected int[ ][ ] candidateLists;
+    
+    /** reusable buffer of the unvisited candidates of the current city */
+    protected int[ ] candidates;
+    
+    // 17 October 2026, for the construction of valid paths only
+    /** true if only paths of at least one attribute and one method per class are constructed */
+    protected final boolean validByConstruction;
+    
+    /** attributes, methods and end of class markers still to be visited */
+    protected int attributesLeft;
+    protected int methodsLeft;
+    protected int endOfClassesLeft;
+    
+    /** does the class under construction have an attribute, and a method? */
+    protected boolean classHasAttribute;
+    protected boolean classHasMethod;
+    
     /** 
      * validity of solution path
      * true if all classes have at least 1 + 1
@@ -66,6 +124,7 @@ public class Ant
     
     /** 
      * constructor
+     * 17 October 2026
      * @param nodes - reference to list of nodes
      * @param attributeList - reference to list of attributes
      * @param methodList - reference to list of attributes
@@ -73,6 +132,7 @@ public class Ant
      * @param at - reference to alpha matrix
      * @param handlingConstraints - boolean
      * @param tspNodes - list of nodes for TSP
+     * @param random - the ant's own stream of random numbers
      */
     public Ant( List< Node > nodes,
                 List< Attribute > attributeList,
@@ -80,7 +140,35 @@ public class Ant
                 int numberOfClasses,
                 AlphaMatrix at,
                 boolean handlingConstraints,
-                List< Node > tspNodes )
+                List< Node > tspNodes,
+                RandomStream random )
+    {
+        this( nodes, attributeList, methodList, numberOfClasses, 
+              at, handlingConstraints, tspNodes, random, Configuration.fromParameters( ) );
+    }
+    
+    /** 
+     * constructor
+     * 17 October 2026
+     * @param nodes - reference to list of nodes
+     * @param attributeList - reference to list of attributes
+     * @param methodList - reference to list of attributes
+     * @param numberOfClasses
+     * @param at - reference to alpha matrix
+     * @param handlingConstraints - boolean
+     * @param tspNodes - list of nodes for TSP
+     * @param random - the ant's own stream of random numbers
+     * @param configuration - of the experiment
+     */
+    public Ant( List< Node > nodes,
+                List< Attribute > attributeList,
+                List< Method > methodList,
+                int numberOfClasses,
+                AlphaMatrix at,
+                boolean handlingConstraints,
+                List< Node > tspNodes,
+                RandomStream random,
+                Configuration configuration )
     {
         assert nodes != null;
         this.amList = nodes;
@@ -101,34 +189,107 @@ public class Ant
         
         this.handlingConstraints = handlingConstraints;
         this.tspNodes = tspNodes;
+        
+        assert random != null;
+        this.random = random;
+        
+        assert configuration != null;
+        this.configuration = configuration;
+        this.problemNumber = configuration.getProblemNumber( );
+        
+        // 17 October 2026
+        this.nodeTable = createNodeTable( );
+        this.kindTable = new byte[ this.nodeTable.length ];
+        for( int i = 0; i < this.nodeTable.length; i++ )
+        {
+            this.kindTable[ i ] = Path.kindOf( this.nodeTable[ i ] );
+        }
+        this.workingSet = new WorkingSet( this.nodeTable.length );
+        this.probabilities = new double[ this.nodeTable.length ];
+        this.tour = new int[ this.nodeTable.length ];
+        this.tourLength = 0;
+        this.candidateLists = null;
+        this.candidates = null;
+        this.pathBuffer = null;
+        
+        this.validByConstruction = handlingConstraints && 
+            configuration.isValidByConstruction( ) && getNumberOfCities( ) == 0;
        
     }
     
+    /**
+     * make the ant ready to construct again, in a pooled colony, 
+     * with a new stream of random numbers and into a reused path
+     * 17 October 2026
+     * @param random - the ant's own stream of random numbers
+     * @param pathBuffer - the path to construct into
+     */
+    public void reuse( RandomStream random, Path pathBuffer )
+    {
+        assert random != null;
+        assert pathBuffer != null;
+        
+        this.random = random;
+        this.pathBuffer = pathBuffer;
+        this.currentPath = null;
+        this.valid = false;
+    }
+    
+    /**
+     * create an empty path for the current problem instance
+     * 17 October 2026
+     * @return new path
+     */
+    public static Path createPath( )
+    {
+        return createPath( Parameters.problemNumber );
+    }
+    
+    /**
+     * create an empty path for a problem instance
+     * 17 October 2026
+     * @param problemNumber
+     * @return new path
+     */
+    public static Path createPath( int problemNumber )
+    {
+        if( getNumberOfCities( problemNumber ) > 0 )
+        {
+            return new Path( );
+        }
+        else // must be a software design problem instance
+        {
+            return new Path( new DesignPathRole( ) );
+        }
+    }
+    
     /**
      * generate a solution (or path)
      * and then pass the path back to the environment.
+     * 17 October 2026, node by node number with the construction kernel,
+     * so that no construction step allocates
      */
     public void generateSolution( )
     {
         assert amList.size( ) >= 0;
         
-        // First, create a working list of all possible elements
-        List< Node > workingList = createWorkingList( );
-        final int workingListSize = workingList.size( );
+        // First, fill the working set with all possible elements
+        fillWorkingSet( );
+        final int workingListSize = this.workingSet.size( );
         
-        if( Parameters.problemNumber == Parameters.TSP_BERLIN52 )
+        if( this.problemNumber == Parameters.TSP_BERLIN52 )
         {
             assert workingListSize == TSP_Berlin52.NUMBER_OF_CITIES;
         }
-        else if( Parameters.problemNumber == Parameters.TSP_ST70 )
+        else if( this.problemNumber == Parameters.TSP_ST70 )
         {
             assert workingListSize == TSP_ST70.NUMBER_OF_CITIES;
         }
-        else if( Parameters.problemNumber == Parameters.TSP_RAT99 )
+        else if( this.problemNumber == Parameters.TSP_RAT99 )
         {
             assert workingListSize == TSP_RAT99.NUMBER_OF_CITIES;
         }
-        else if( Parameters.problemNumber == Parameters.TSP_RAT195 )
+        else if( this.problemNumber == Parameters.TSP_RAT195 )
         {
             assert workingListSize == TSP_RAT195.NUMBER_OF_CITIES;
         }
@@ -141,65 +302,69 @@ public class Ant
         // that can be added to 'this'
         
         Path path = null;
-        Node current = null;
-        Node next = null;
+        
+        // 17 October 2026, into the reused path if there is one
+        if( this.pathBuffer != null )
+        {
+            path = this.pathBuffer;
+            path.reset( );
+        }
+        else
+        {
+            path = createPath( this.problemNumber );
+        }
+        
+        int current = 0;
+        int next = 0;
         int nodeCounter = 0;
-        int numberOfCities = 0;
+        final int numberOfCities = getNumberOfCities( );
+        
+        this.tourLength = 0;
         
         // if the problem instance is a TSP...
-        if( Parameters.problemNumber == Parameters.TSP_BERLIN52 || 
-            Parameters.problemNumber == Parameters.TSP_ST70 ||
-            Parameters.problemNumber == Parameters.TSP_RAT99 ||   
-            Parameters.problemNumber == Parameters.TSP_RAT195 )  
+        if( numberOfCities > 0 )
         {
-            if( Parameters.problemNumber == Parameters.TSP_BERLIN52 )
-            {
-                numberOfCities = TSP_Berlin52.NUMBER_OF_CITIES;
-            }
-            else if( Parameters.problemNumber == Parameters.TSP_ST70 )
-            {
-                numberOfCities = TSP_ST70.NUMBER_OF_CITIES;
-            }
-            else if( Parameters.problemNumber == Parameters.TSP_RAT99 )
-            {
-                numberOfCities = TSP_RAT99.NUMBER_OF_CITIES;
-            }
-            else if( Parameters.problemNumber == Parameters.TSP_RAT195 )
-            {
-                numberOfCities = TSP_RAT195.NUMBER_OF_CITIES;
-            }
-            else
-            {
-                assert false : "impossible TSP problem!";
-            }
-            
-            path = new Path( );
             // classic TSP - select first city at random
-            final int index = Utility.getRandomInRange( 0, numberOfCities - 1 );
+            final int index = this.random.getRandomInRange( 0, numberOfCities - 1 );
             assert index >= 0;
-            assert index < workingList.size( );
-            current = workingList.remove( index );
+            assert index < this.workingSet.size( );
+            current = this.workingSet.removeAt( index );
         }    
         else // must be a software design problem instance    
         {   
-            path = new Path( new DesignPathRole( ) );
             // the first node is always the nest
-            current = new Nest( "nest", 0 );
+            current = NEST_NUMBER;
+            
+            if( this.validByConstruction )
+            {
+                startValidTracking( );
+            }
         }
-        path.add( current );
+        this.tour[ this.tourLength++ ] = current;
      
         
-        while( workingList.isEmpty( ) == false )
+        while( this.workingSet.isEmpty( ) == false )
         {
             // select the next node, according to attractiveness
-            next = selectNextNode( current, workingList, nodeCounter );
-            
-            // 7 August 2018
-//            next = selectNextValidNodeTracking( 
-//                current, workingList, nodeCounter, attsLeft, metsLeft, eocLeft );
+            if( this.validByConstruction )
+            {
+                next = selectNextValidNodeNumber( current, nodeCounter );
+            }
+            else if( this.candidateLists != null )
+            {
+                next = selectNextCandidateNumber( current, nodeCounter );
+            }
+            else if( canSample( current ) )
+            {
+                next = sampleNextNodeNumber( current, nodeCounter );
+            }
+            else
+            {
+                next = selectNextNodeNumber( current, nodeCounter );
+            }
             
             // add the next node to the solution path
-            path.add( next );
+            this.tour[ this.tourLength++ ] = next;
             
             // and so the ant moves through the environment
             current = next;
@@ -208,19 +373,31 @@ public class Ant
             nodeCounter++;
         }
         
-        assert workingList.isEmpty( );
-                
-        if( Parameters.problemNumber == Parameters.CBS ||
-            Parameters.problemNumber == Parameters.GDP ||
-            Parameters.problemNumber == Parameters.RANDOMISED ||
-            Parameters.problemNumber == Parameters.SC    )
+        assert this.workingSet.isEmpty( );
+        
+        if( numberOfCities == 0 )
         {
-            assert path.size( ) == workingListSize + 1 /* for the nest */:
+            assert this.tourLength == workingListSize + 1 /* for the nest */:
                 "working list size is: " + workingListSize +
-                "path size is " + path.size( );
+                "path size is " + this.tourLength;
             
             // the last node is always an end of class
-            path.add( new EndOfClass( END_OF_CLASS, workingListSize + 1 ) );
+            this.tour[ this.tourLength++ ] = workingListSize + 1;
+        }
+        
+        // the nodes of the path, in the order visited, 
+        // viewed from this ant's node table
+        path.setNodeTable( this.nodeTable );
+        for( int i = 0; i < this.tourLength; i++ )
+        {
+            path.add( this.nodeTable[ this.tour[ i ] ] );
+        }
+                
+        if( this.problemNumber == Parameters.CBS ||
+            this.problemNumber == Parameters.GDP ||
+            this.problemNumber == Parameters.RANDOMISED ||
+            this.problemNumber == Parameters.SC    )
+        {
             assert( path.size( ) == amList.size( ) + this.numberOfClasses + 1 /* for the nest */ );
 
             if( Parameters.SOLUTION_GENERATION_ROBUSTNESS_CHECK == true )
@@ -259,15 +436,6 @@ public class Ant
         {
             assert path.size( ) == numberOfCities:
                 "number of cities in path is: " + path.size( );
-            
-            // go show the nodes of a solution path
-//            Iterator< Node > it = path.iterator( );
-//            while( it.hasNext( ) )
-//            {
-//                Node n = it.next( );
-//                System.out.print( n.getNumber( ) + " " );
-//            }
-//            System.out.println( " " );        
         }
         
         // after solution path is constructed, assign it to 
@@ -275,20 +443,580 @@ public class Ant
         this.currentPath = path;
         
         // 2 Feb 2016
-        if( Parameters.problemNumber != Parameters.TSP_BERLIN52 )
+        if( this.problemNumber != Parameters.TSP_BERLIN52 )
         {
             this.valid = checkValidity( path );
             this.currentPath.setValid( this.valid );
+            
+            assert this.valid || this.validByConstruction == false : "invalid path constructed";
+        }
+    }
+    
+    /**
+     * the number of cities in the current problem instance
+     * 17 October 2026
+     * @return number of cities if a TSP, zero for a software design problem
+     */
+    protected int getNumberOfCities( )
+    {
+        return getNumberOfCities( this.problemNumber );
+    }
+    
+    /**
+     * the number of cities in a problem instance
+     * 17 October 2026
+     * @param problemNumber
+     * @return number of cities if a TSP, zero for a software design problem
+     */
+    protected static int getNumberOfCities( int problemNumber )
+    {
+        int numberOfCities = 0;
+        
+        if( problemNumber == Parameters.TSP_BERLIN52 )
+        {
+            numberOfCities = TSP_Berlin52.NUMBER_OF_CITIES;
+        }
+        else if( problemNumber == Parameters.TSP_ST70 )
+        {
+            numberOfCities = TSP_ST70.NUMBER_OF_CITIES;
+        }
+        else if( problemNumber == Parameters.TSP_RAT99 )
+        {
+            numberOfCities = TSP_RAT99.NUMBER_OF_CITIES;
+        }
+        else if( problemNumber == Parameters.TSP_RAT195 )
+        {
+            numberOfCities = TSP_RAT195.NUMBER_OF_CITIES;
+        }
+        
+        return numberOfCities;
+    }
+    
+    /**
+     * Create the table of nodes, indexed by node number. 
+     * Nodes are numbered as in createWorkingList( ): for a TSP, 
+     * cities are numbered from zero; for a software design, the nest 
+     * is zero, then attributes and methods follow from one, and then
+     * all the end of class nodes, the very last of which always
+     * ends the path. 
+     * 17 October 2026
+     * @return table of nodes
+     */
+    private Node[ ] createNodeTable( )
+    {
+        final int numberOfCities = getNumberOfCities( );
+        Node[ ] table = null;
+        
+        if( numberOfCities > 0 )
+        {
+            table = new Node[ numberOfCities ];
+            
+            for( int i = 0; i < numberOfCities; i++ )
+            {
+                Node node = new Node( );
+                node.setNumber( i );
+                table[ i ] = node;
+            }
+        }
+        else // must be a software design problem instance
+        {
+            table = new Node[ amListSize + numberOfClasses + 1 ];
+            table[ NEST_NUMBER ] = new Nest( "nest", NEST_NUMBER );
+            
+            for( Node n : amList )
+            {
+                final int number = n.getNumber( ) + 1;
+                
+                if( n instanceof Attribute )
+                {
+                    table[ number ] = new Attribute( n.getName( ), number );
+                }
+                else if( n instanceof Method )
+                {
+                    table[ number ] = new Method( n.getName( ), number );
+                }
+                else
+                {
+                    assert false: "impossible type!!!";
+                }
+            }
+            
+            for( int number = amListSize + 1; number < table.length; number++ )
+            {
+                table[ number ] = new EndOfClass( END_OF_CLASS, number );
+            }
+        }
+        
+        return table;
+    }
+    
+    /**
+     * fill the working set with the numbers of all nodes to be
+     * visited, in the same order as createWorkingList( )
+     * 17 October 2026
+     */
+    protected void fillWorkingSet( )
+    {
+        this.workingSet.clear( );
+        
+        final int numberOfCities = getNumberOfCities( );
+        
+        if( numberOfCities > 0 )
+        {
+            for( int i = 0; i < numberOfCities; i++ )
+            {
+                this.workingSet.add( i );
+            }
+            return;
+        }
+        
+        // attributes and methods, then (number of classes - 1) 
+        // EndOfClasses, the last being added after construction
+        for( Node n : amList )
+        {
+            this.workingSet.add( n.getNumber( ) + 1 );
+        }
+        
+        final int numberOfEndOfClasses = ( this.numberOfClasses - 1 );
+        
+        for( int i = 0; i < numberOfEndOfClasses; i++ )
+        {
+            this.workingSet.add( amListSize + 1 + i );
         }
+        
+        assert this.workingSet.size( ) == amListSize + numberOfEndOfClasses;
     }
     
+    /**
+     * select the next node based on pheromone 'attractiveness',
+     * from the working set, into the reusable probabilities buffer
+     * 17 October 2026
+     * @param current node number
+     * @param nodeCounter
+     * @return the number of the next node, removed from the working set
+     */
+    protected int selectNextNodeNumber( int current, int nodeCounter )
+    {
+        assert this.workingSet.size( ) > 0;
+        assert nodeCounter >= 0;
+        
+        // handle the situation where the ant reaches the end of the path
+        // i.e there's only ONE node left in the set
+        if( this.workingSet.size( ) == 1 )
+        {
+            return this.workingSet.removeAt( 0 );
+        }
+        
+        final int selectedIndex = spinWorkingSetWheel( current, nodeCounter );
+        
+        // return and remove the selected node in the working set
+        return this.workingSet.removeAt( selectedIndex );
+    }
     
+    /**
+     * start tracking the attributes, methods and end of class markers 
+     * left in the working set, for the construction of a valid path
+     * 17 October 2026
+     */
+    protected void startValidTracking( )
+    {
+        this.attributesLeft = 0;
+        this.methodsLeft = 0;
+        this.endOfClassesLeft = 0;
+        
+        for( int i = 0; i < this.workingSet.size( ); i++ )
+        {
+            switch( this.kindTable[ this.workingSet.get( i ) ] )
+            {
+                case Path.ATTRIBUTE:
+                    this.attributesLeft++;
+                    break;
+                case Path.METHOD:
+                    this.methodsLeft++;
+                    break;
+                case Path.END_OF_CLASS:
+                    this.endOfClassesLeft++;
+                    break;
+                default:
+                    assert false : "impossible node in working set";
+                    break;
+            }
+        }
+        
+        this.classHasAttribute = false;
+        this.classHasMethod = false;
+        
+        // every class, including the one closed by the final
+        // end of class marker, needs an attribute and a method
+        assert this.attributesLeft >= this.endOfClassesLeft + 1 &&
+               this.methodsLeft >= this.endOfClassesLeft + 1 :
+            "too few attributes or methods for a valid design of " + 
+            ( this.endOfClassesLeft + 1 ) + " classes";
+    }
     
+    /**
+     * Select the next node based on pheromone 'attractiveness', from 
+     * only those nodes that leave a valid path still possible: every 
+     * class, including the one closed by the final end of class marker, 
+     * must have at least one attribute and one method. The choices
+     * left open are always enough to complete a valid path.
+     * 17 October 2026
+     * @param current node number
+     * @param nodeCounter
+     * @return the number of the next node, removed from the working set
+     */
+    protected int selectNextValidNodeNumber( int current, int nodeCounter )
+    {
+        final int workingSetSize = this.workingSet.size( );
+        assert workingSetSize > 0;
+        
+        final int a = this.attributesLeft;
+        final int m = this.methodsLeft;
+        final int e = this.endOfClassesLeft;
+        
+        // enough must be left for the end of class markers still to come,
+        // and for whatever the class under construction still lacks
+        final boolean attributeAllowed = 
+            a - 1 >= e && m >= e + ( this.classHasMethod ? 0 : 1 );
+        final boolean methodAllowed = 
+            m - 1 >= e && a >= e + ( this.classHasAttribute ? 0 : 1 );
+        final boolean endOfClassAllowed = e > 0 &&
+            this.classHasAttribute && this.classHasMethod && a >= e && m >= e;
+        
+        assert attributeAllowed || methodAllowed || endOfClassAllowed : 
+            "no valid choice, attributes: " + a + ", methods: " + m + ", end of classes: " + e;
+        
+        final double[ ] probabilities = this.probabilities;
+        double sum = 0.0;
+        int allowedCount = 0;
+        
+        for( int i = 0; i < workingSetSize; i++ )
+        {
+            final int number = this.workingSet.get( i );
+            double prob = 0.0;
+            
+            if( isAllowed( this.kindTable[ number ], attributeAllowed, methodAllowed, endOfClassAllowed ) )
+            {
+                prob = this.alphaTable.getProbabilityAt( current, number );
+                
+                if( configuration.isHeuristics( ) == true )
+                {
+                    // apply the heuristic information
+                    prob = applyBeta( prob, this.nodeTable[ current ], this.nodeTable[ number ], nodeCounter );
+                    assert prob >= 0.0 : "probability is: " + prob;
+                }
+                
+                allowedCount++;
+            }
+            
+            probabilities[ i ] = prob;
+            sum += prob;
+        }
+        
+        assert allowedCount > 0;
+        int selectedIndex = 0;
+        
+        if( sum > 0.0 )
+        {
+            selectedIndex = spinRouletteWheel( workingSetSize, sum );
+            
+            // a draw of exactly zero stops at the first slot,
+            // so move on to the first slot that can be chosen
+            while( probabilities[ selectedIndex ] == 0.0 )
+            {
+                selectedIndex++;
+            }
+        }
+        else // every allowed node has zero attractiveness, so choose at random
+        {
+            int k = this.random.getRandomInRange( 0, allowedCount - 1 );
+            
+            for( selectedIndex = 0; selectedIndex < workingSetSize; selectedIndex++ )
+            {
+                final byte kind = this.kindTable[ this.workingSet.get( selectedIndex ) ];
+                
+                if( isAllowed( kind, attributeAllowed, methodAllowed, endOfClassAllowed ) )
+                {
+                    if( k == 0 )
+                    {
+                        break;
+                    }
+                    k--;
+                }
+            }
+        }
+        
+        assert selectedIndex < workingSetSize;
+        
+        final int result = this.workingSet.swapRemoveAt( selectedIndex );
+        
+        // and track the class under construction
+        switch( this.kindTable[ result ] )
+        {
+            case Path.ATTRIBUTE:
+                this.attributesLeft--;
+                this.classHasAttribute = true;
+                break;
+            case Path.METHOD:
+                this.methodsLeft--;
+                this.classHasMethod = true;
+                break;
+            case Path.END_OF_CLASS:
+                this.endOfClassesLeft--;
+                this.classHasAttribute = false;
+                this.classHasMethod = false;
+                break;
+            default:
+                assert false : "impossible node in working set";
+                break;
+        }
+        
+        return result;
+    }
+    
+    /**
+     * @param kind of node
+     * @param attributeAllowed
+     * @param methodAllowed
+     * @param endOfClassAllowed
+     * @return true if a node of this kind may be chosen
+     */
+    private static boolean isAllowed( 
+        byte kind, boolean attributeAllowed, boolean methodAllowed, boolean endOfClassAllowed )
+    {
+        switch( kind )
+        {
+            case Path.ATTRIBUTE:
+                return attributeAllowed;
+            case Path.METHOD:
+                return methodAllowed;
+            case Path.END_OF_CLASS:
+                return endOfClassAllowed;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * lay out the "roulette wheel" over every node in the working set,
+     * in working set order, and spin it
+     * 17 October 2026
+     * @param current node number
+     * @param nodeCounter
+     * @return index in the working set of the selected node
+     */
+    private int spinWorkingSetWheel( int current, int nodeCounter )
+    {
+        final int workingSetSize = this.workingSet.size( );
+        final double[ ] probabilities = this.probabilities;
+        double sum = 0.0;
+        
+        // 'from' the current node (x axis in the table)
+        // 'to' each node in the working set (y axis in the table)
+        for( int i = 0; i < workingSetSize; i++ )
+        {
+            final int number = this.workingSet.get( i );
+            final double temp = this.alphaTable.getProbabilityAt( current, number );
+            double prob = temp;
+            
+            if( configuration.isHeuristics( ) == true )
+            {
+                // apply the heuristic information
+                prob = applyBeta( temp, this.nodeTable[ current ], this.nodeTable[ number ], nodeCounter );
+                assert prob >= 0.0 : "probability is: " + prob;
+            }
+                        
+            probabilities[ i ] = prob; 
+            
+            sum += prob;
+        }
+        
+        return spinRouletteWheel( workingSetSize, sum );
+    }
+    
+    /**
+     * can the next node be drawn from the sampling tree of the current node?
+     * 17 October 2026
+     * @param current node number
+     * @return true if so
+     */
+    protected boolean canSample( int current )
+    {
+        return configuration.isHeuristics( ) == false && 
+               this.alphaTable.getRowTree( current ) != null;
+    }
+    
+    /**
+     * Select the next node by drawing from the sampling tree over 
+     * the current node's row of the alpha matrix, in O(log n), and 
+     * rejecting any node already visited. Each accepted draw follows 
+     * the same distribution as the roulette wheel over the working set.
+     * After MAXIMUM_REJECTIONS rejections, the roulette wheel over 
+     * the working set is used instead, which keeps that distribution 
+     * exact, and bounds the cost as the working set empties.
+     * 17 October 2026
+     * @param current node number
+     * @param nodeCounter
+     * @return the number of the next node, removed from the working set
+     */
+    protected int sampleNextNodeNumber( int current, int nodeCounter )
+    {
+        assert this.workingSet.size( ) > 0;
+        
+        // only ONE node left in the set
+        if( this.workingSet.size( ) == 1 )
+        {
+            return this.workingSet.swapRemoveAt( 0 );
+        }
+        
+        final SamplingTree tree = this.alphaTable.getRowTree( current );
+        assert tree != null;
+        final double total = tree.total( );
+        
+        if( total > 0.0 )
+        {
+            for( int attempt = 0; attempt < MAXIMUM_REJECTIONS; attempt++ )
+            {
+                final double random = this.random.getRandomInRange( 0.0, total );
+                final int number = tree.sample( random );
+                
+                if( this.workingSet.contains( number ) )
+                {
+                    // the working set's order doesn't matter here, so remove in O(1)
+                    return this.workingSet.swapRemoveAt( this.workingSet.indexOf( number ) );
+                }
+            }
+        }
+        
+        return this.workingSet.swapRemoveAt( spinWorkingSetWheel( current, nodeCounter ) );
+    }
+    
+    /**
+     * For TSP, select the next city from the unvisited nearest 
+     * neighbours of the current city, based on pheromone 'attractiveness'.
+     * Only when every candidate has been visited is the next city
+     * selected from all the unvisited cities.
+     * 17 October 2026
+     * @param current city number
+     * @param nodeCounter
+     * @return the number of the next city, removed from the working set
+     */
+    protected int selectNextCandidateNumber( int current, int nodeCounter )
+    {
+        assert this.candidateLists != null;
+        assert this.workingSet.size( ) > 0;
+        
+        final int[ ] candidateList = this.candidateLists[ current ];
+        final double[ ] probabilities = this.probabilities;
+        int count = 0;
+        double sum = 0.0;
+        
+        for( int i = 0; i < candidateList.length; i++ )
+        {
+            final int number = candidateList[ i ];
+            
+            if( this.workingSet.contains( number ) )
+            {
+                double prob = this.alphaTable.getProbabilityAt( current, number );
+                
+                if( configuration.isHeuristics( ) == true )
+                {
+                    prob = applyBeta( prob, this.nodeTable[ current ], this.nodeTable[ number ], nodeCounter );
+                    assert prob >= 0.0 : "probability is: " + prob;
+                }
+                
+                this.candidates[ count ] = number;
+                probabilities[ count ] = prob;
+                sum += prob;
+                count++;
+            }
+        }
+        
+        int selectedIndex = 0;
+        
+        if( count > 0 )
+        {
+            // the working set's order doesn't matter here, so remove in O(1)
+            final int selected = this.candidates[ spinRouletteWheel( count, sum ) ];
+            selectedIndex = this.workingSet.indexOf( selected );
+        }
+        else if( canSample( current ) ) // every candidate visited, so fall back to all unvisited cities
+        {
+            return sampleNextNodeNumber( current, nodeCounter );
+        }
+        else
+        {
+            selectedIndex = spinWorkingSetWheel( current, nodeCounter );
+        }
+        
+        return this.workingSet.swapRemoveAt( selectedIndex );
+    }
+    
+    /**
+     * spin the "roulette wheel" laid out in the probabilities buffer
+     * 17 October 2026
+     * @param count - number of slots in use on the wheel
+     * @param sum - sum of the probabilities of those slots
+     * @return index of the selected slot
+     */
+    protected int spinRouletteWheel( int count, double sum )
+    {
+        assert count > 0;
+        
+        // spin the "roulette wheel" to get a random number...
+        final double random = this.random.getRandomInRange( 0.0, sum );
+        assert random >= 0.0;
+        assert random <= sum;
+        
+        final double[ ] probabilities = this.probabilities;
+        double runningTotal = 0.0;
+        int selectedIndex = 0;
+        
+        // select a slot depending on probability
+        for( int j = 0; j < count; j++ )
+        {
+            runningTotal += probabilities[ j ];
+            
+            if( runningTotal >= random )
+            {
+                selectedIndex = j;
+                break;
+            }
+        }
+        
+        assert selectedIndex >= 0;
+        assert selectedIndex < count;
+        
+        return selectedIndex;
+    }
+    
+    /**
+     * use candidate lists in TSP tour construction 
+     * 17 October 2026
+     * @param candidateLists - the nearest neighbours of each city, or null for none
+     */
+    public void setCandidateLists( int[ ][ ] candidateLists )
+    {
+        this.candidateLists = candidateLists;
+        this.candidates = null;
+        
+        if( candidateLists != null )
+        {
+            int longest = 0;
+            for( int[ ] list : candidateLists )
+            {
+                longest = Math.max( longest, list.length );
+            }
+            this.candidates = new int[ longest ];
+        }
+    }
     
     /**
      * create a working list of path elements containing
      * all methods, all attributes, and appropriate
      * number of EndOfClass path.
+     * Retained for the heuristic ants; generateSolution( ) now
+     * uses fillWorkingSet( ) 17 October 2026
      * @return working list of path
      */
     protected List< Node > createWorkingList( )
@@ -297,24 +1025,24 @@ public class Ant
         
         // EITHER create a working list for a TSP problem...
         int numberOfCities = 0;
-        if( Parameters.problemNumber == Parameters.TSP_BERLIN52 || 
-            Parameters.problemNumber == Parameters.TSP_ST70 ||
-            Parameters.problemNumber == Parameters.TSP_RAT99 || 
-            Parameters.problemNumber == Parameters.TSP_RAT195 )   
+        if( this.problemNumber == Parameters.TSP_BERLIN52 || 
+            this.problemNumber == Parameters.TSP_ST70 ||
+            this.problemNumber == Parameters.TSP_RAT99 || 
+            this.problemNumber == Parameters.TSP_RAT195 )   
         {
-            if( Parameters.problemNumber == Parameters.TSP_BERLIN52 )
+            if( this.problemNumber == Parameters.TSP_BERLIN52 )
             {
                 numberOfCities = TSP_Berlin52.NUMBER_OF_CITIES;
             }
-            else if( Parameters.problemNumber == Parameters.TSP_ST70 )
+            else if( this.problemNumber == Parameters.TSP_ST70 )
             {
                 numberOfCities = TSP_ST70.NUMBER_OF_CITIES;
             }
-            else if( Parameters.problemNumber == Parameters.TSP_RAT99 )
+            else if( this.problemNumber == Parameters.TSP_RAT99 )
             {
                 numberOfCities = TSP_RAT99.NUMBER_OF_CITIES;
             }
-            else if( Parameters.problemNumber == Parameters.TSP_RAT195 )
+            else if( this.problemNumber == Parameters.TSP_RAT195 )
             {
                 numberOfCities = TSP_RAT195.NUMBER_OF_CITIES;
             }
@@ -404,6 +1132,8 @@ public class Ant
     
     /**
      * select the next node based on pheromone 'attractiveness'
+     * Retained for the heuristic ants; generateSolution( ) now
+     * uses selectNextNodeNumber( ) 17 October 2026
      * @param the current node
      * @param the working list of path
      * @return the next node 
@@ -448,7 +1178,7 @@ public class Ant
             final double temp = this.alphaTable.getProbabilityAt( currentNodeNumber, workingListNodeNumber );
             double prob = temp;
             
-            if( AlgorithmParameters.heuristics == true )
+            if( configuration.isHeuristics( ) == true )
             {
                 // apply the heuristic information
                 prob = applyBeta( temp, current, workingList.get( i ), nodeCounter );
@@ -461,7 +1191,7 @@ public class Ant
         }
         
         // now spin the "roulette wheel" to get a random number...
-        double random = Utility.getRandomInRange( 0.0, sum );
+        double random = this.random.getRandomInRange( 0.0, sum );
         assert random >= 0.0;
         assert random <= sum;
         
@@ -757,7 +1487,7 @@ public class Ant
         {
             loopCounter++;
             // spin the "roulette wheel" to get a random number...
-            double random = Utility.getRandomInRange( 0.0, sum );
+            double random = this.random.getRandomInRange( 0.0, sum );
             assert random >= 0.0;
             assert random <= sum;
 
@@ -872,7 +1602,7 @@ public class Ant
         }
         
         // now spin the "roulette wheel" to get a random number...
-        double random = Utility.getRandomInRange( 0.0, sum );
+        double random = this.random.getRandomInRange( 0.0, sum );
         assert random >= 0.0;
         assert random <= sum;
         
@@ -15,16 +15,22 @@ package engine;
  */
     
 import config.AlgorithmParameters;
+import config.Configuration;
 import config.Parameters;
 import daemonActions.DaemonOperators;
+import daemonActions.DesignEvaluator;
+import daemonActions.FitnessCache;
 import heuristics.HeuristicInformation;
 import java.text.DecimalFormat;
 import java.util.*;
-import myUtils.PathComparatorForFcombined;
-import myUtils.PathComparatorForTSP;
+import myUtils.RankSelector;
+import myUtils.RandomStream;
+import myUtils.WorkerPool;
+import pareto.ParetoArchive;
 import pheromone.*;
 import problem.*;
 import reporting.BatchResults;
+import reporting.MultiObjectiveResults;
 
 
 public class Controller
@@ -39,26 +45,82 @@ public class Controller
     private final List< Node > amList; 
     
     /** number of classes in software design */
-    private static int numberOfClasses;
+    private final int numberOfClasses;
+    
+    /** heuristic information of the software design 17 October 2026 */
+    private final HeuristicInformation heuristicInformation;
 
     /** the colony, which contains all the solution paths */
     private final List< Path > colony;
     
     /** for sorting of the colony based on Fcomb 19 July 2017 */
+    /** also the preallocated slot for each ant's path during construction 17 October 2026 */
     Path pathArray[ ];
     
+    // 17 October 2026
+    // pool for parallel construction of the colony, null if sequential
+    private final WorkerPool constructionPool;
+    // pool for parallel pheromone update, null if sequential
+    private final WorkerPool updatePool;
+    // pool for parallel fitness evaluation, null if sequential
+    private final WorkerPool evaluationPool;
+    // evaluator of software design paths, null for a TSP
+    private final DesignEvaluator designEvaluator;
+    // the best and worst paths in the colony by combined fitness, or by
+    // TSP path length, selected as the colony is scanned; as many are
+    // selected as the configuration's selected ranks
+    private final RankSelector colonyRanks;
+    // the fitness of designs already evaluated in the run, null if not cached,
+    // and the key of each ant's design, and whether it was found, this iteration
+    private final FitnessCache fitnessCache;
+    private final long[ ][ ] designKeys;
+    private final long[ ] designHashes;
+    private final boolean[ ] cacheHits;
+    // the CBO / NAC trade-off front found over the run, null if not kept,
+    // and the objectives of the path offered to it
+    private final ParetoArchive paretoArchive;
+    private final double[ ] paretoObjectives;
+    // the edges of the best and worst paths of an iteration, reused
+    private EdgeSet bestPathEdges;
+    private EdgeSet worstPathEdges;
+    // number of retry attempts made by each ant in the current iteration
+    private final int[ ] attemptsPerAnt;
+    
+    // for a pooled colony, the ants of the current run, and two buffers 
+    // of paths used in alternate iterations, so that paths held over from
+    // the previous iteration are not overwritten; null if not pooled
+    private Ant[ ] antPool;
+    private final Path[ ][ ] pathBuffers;
+    
+    // the random stream of the current run, and of each ant in the current iteration
+    private RandomStream runStream;
+    private final RandomStream[ ] antStreams;
+    
     /** the table containing all the pheromone values */
     private PheromoneMatrix pheromoneTable;
     
+    // 17 October 2026, pheromone to the power of alpha, kept up to date 
+    // with the pheromone table from one iteration to the next
+    private AlphaMatrix alphaTable;
+    
+    // 17 October 2026, for TSP, eta to the power of beta, null if not used
+    private double[ ][ ] heuristicMatrix;
+    
     /** the elite archive */
     private Stack< Path > eliteArchive;
     
     /** reference to the problem controller, for use table */
     private ProblemController problemController;
     
+    /** the configuration of the experiment 17 October 2026 */
+    private final Configuration configuration;
+    
     // list of nodes for TSP 16 September 2018
     private List< Node > tspNodes;
     
+    // 17 October 2026, for TSP, nearest neighbours of each city, null if not used
+    private int[ ][ ] candidateLists;
+    
     /** best so far values */
     private double bestSoFarCBO;
     private double bestSoFarEleganceNAC;
@@ -146,13 +208,60 @@ public class Controller
     private DecimalFormat df;
     
     /**
-     * constructor
+     * constructor, configured by the static parameters
      * @param problemController
      */
     public Controller( ProblemController problemController )
+    {
+        this( problemController, Configuration.fromParameters( ) );
+    }
+    
+    /**
+     * constructor
+     * 17 October 2026
+     * @param problemController
+     * @param configuration of the experiment
+     */
+    public Controller( ProblemController problemController, Configuration configuration )
+    {
+        this( problemController, 
+            new BatchResults( 
+                configuration.getNumberOfIterations( ), 
+                configuration.getNumberOfRuns( ),
+                configuration.getMasterSeed( ) ),
+            configuration );
+    }
+    
+    /**
+     * constructor, recording into results shared with other controllers;
+     * each run writes only its own rows of the results
+     * 17 October 2026
+     * @param problemController
+     * @param batchResults 
+     */
+    public Controller( ProblemController problemController, BatchResults batchResults )
+    {
+        this( problemController, batchResults, Configuration.fromParameters( ) );
+    }
+    
+    /**
+     * constructor, recording into results shared with other controllers,
+     * as above, configured by the given configuration
+     * 17 October 2026
+     * @param problemController
+     * @param batchResults 
+     * @param configuration of the experiment
+     */
+    public Controller( 
+        ProblemController problemController, 
+        BatchResults batchResults, 
+        Configuration configuration )
     {
         assert problemController != null;
+        assert batchResults != null;
+        assert configuration != null;
         this.problemController = problemController;
+        this.configuration = configuration;
         
         amList = new ArrayList<  >( );
         attributeList = new ArrayList<  >( );
@@ -161,17 +270,105 @@ public class Controller
         
         numberOfClasses = problemController.getNumberOfClasses( );
         
-        // 14 Jan 2013
-        HeuristicInformation.setUp( 
-            this.attributeList.size( ), this.methodList.size( ), Controller.numberOfClasses );
-        
         colony = new ArrayList< >( );
         
         // 17 July 2017
         pathArray = new Path[ AlgorithmParameters.NUMBER_OF_ANTS ];
         
+        // 17 October 2026
+        attemptsPerAnt = new int[ AlgorithmParameters.NUMBER_OF_ANTS ];
+        antStreams = new RandomStream[ AlgorithmParameters.NUMBER_OF_ANTS ];
+        runStream = null;
+        
+        if( configuration.isParallelConstruction( ) == true )
+        {
+            constructionPool = new WorkerPool( configuration.getNumberOfConstructionThreads( ) );
+        }
+        else
+        {
+            constructionPool = null;
+        }
+        
+        if( configuration.isParallelPheromoneUpdate( ) == true )
+        {
+            updatePool = ( constructionPool != null ) ? 
+                constructionPool : new WorkerPool( configuration.getNumberOfConstructionThreads( ) );
+        }
+        else
+        {
+            updatePool = null;
+        }
+        
+        if( configuration.isParallelEvaluation( ) == true )
+        {
+            evaluationPool = ( constructionPool != null ) ? 
+                constructionPool : new WorkerPool( configuration.getNumberOfConstructionThreads( ) );
+        }
+        else
+        {
+            evaluationPool = null;
+        }
+        
+        // the evaluator is shared by the workers of the evaluation pool
+        designEvaluator = isTSP( ) ? null : new DesignEvaluator( problemController, configuration );
+        assert configuration.getSelectedRanks( ) >= configuration.getPheromoneStrength( ) &&
+               configuration.getSelectedRanks( ) >= configuration.getAntipheromoneStrength( ) :
+               "too few ranks selected for the strengths";
+        colonyRanks = new RankSelector( configuration.getSelectedRanks( ) );
+        
+        if( configuration.isFitnessCache( ) == true && isTSP( ) == false )
+        {
+            fitnessCache = new FitnessCache( 
+                problemController.getNumberOfUniqueData( ),
+                problemController.getNumberOfUniqueActions( ),
+                this.numberOfClasses,
+                configuration.getFitnessCacheSize( ) );
+            designKeys = new long[ AlgorithmParameters.NUMBER_OF_ANTS ][ fitnessCache.keyLength( ) ];
+            designHashes = new long[ AlgorithmParameters.NUMBER_OF_ANTS ];
+            cacheHits = new boolean[ AlgorithmParameters.NUMBER_OF_ANTS ];
+        }
+        else
+        {
+            fitnessCache = null;
+            designKeys = null;
+            designHashes = null;
+            cacheHits = null;
+        }
+        
         eliteArchive = new Stack< >( );
         
+        // 17 October 2026, CBO and scaled NAC are both at most one
+        if( configuration.isParetoArchive( ) == true && isTSP( ) == false )
+        {
+            paretoArchive = new ParetoArchive( 
+                2, configuration.getParetoArchiveSize( ), new double[ ] { 1.0, 1.0 } );
+            paretoObjectives = new double[ 2 ];
+        }
+        else
+        {
+            paretoArchive = null;
+            paretoObjectives = null;
+        }
+        
+        // 17 October 2026
+        antPool = null;
+        if( configuration.isPooledColony( ) == true )
+        {
+            pathBuffers = new Path[ 2 ][ AlgorithmParameters.NUMBER_OF_ANTS ];
+            
+            for( int b = 0; b < pathBuffers.length; b++ )
+            {
+                for( int i = 0; i < AlgorithmParameters.NUMBER_OF_ANTS; i++ )
+                {
+                    pathBuffers[ b ][ i ] = Ant.createPath( configuration.getProblemNumber( ) );
+                }
+            }
+        }
+        else
+        {
+            pathBuffers = null;
+        }
+        
         // 16 September 2018
         tspNodes = new ArrayList< >( );
         
@@ -209,10 +406,10 @@ public class Controller
         maxInvalids = 0;
         
         // 30 May 2012
-        numberOfRetries = new int[ AlgorithmParameters.NUMBER_OF_ITERATIONS ];
-        averageAttempts = new double[ AlgorithmParameters.NUMBER_OF_ITERATIONS ];
+        numberOfRetries = new int[ configuration.getNumberOfIterations( ) ];
+        averageAttempts = new double[ configuration.getNumberOfIterations( ) ];
         
-        for( int i = 0; i < AlgorithmParameters.NUMBER_OF_ITERATIONS; i++ )
+        for( int i = 0; i < configuration.getNumberOfIterations( ); i++ )
         {
             numberOfRetries[ i ] = 0;
             averageAttempts[ i ] = 0.0;
@@ -221,13 +418,13 @@ public class Controller
         interval = 0;
              
         // set up results for batch mode
-        batchResults = new BatchResults( AlgorithmParameters.NUMBER_OF_ITERATIONS, Parameters.NUMBER_OF_RUNS );
+        this.batchResults = batchResults;
 
          /** in batch mode, run time for each iteration */
-        iterationRunTimes = new long[ AlgorithmParameters.NUMBER_OF_ITERATIONS ];
+        iterationRunTimes = new long[ configuration.getNumberOfIterations( ) ];
 
         /** in batch mode, average run time for each run */
-        averageRunTimes = new long[ Parameters.NUMBER_OF_RUNS ];
+        averageRunTimes = new long[ configuration.getNumberOfRuns( ) ];
 
         // 28 August 2018
         areaAt50 = 0.0;
@@ -253,6 +450,35 @@ public class Controller
         df = new DecimalFormat( "0.000" );
         
         initialiseLists( problemController );
+        
+        // 14 Jan 2013, and 17 October 2026, once the lists are initialised
+        heuristicInformation = new HeuristicInformation( 
+            this.attributeList.size( ), this.methodList.size( ), this.numberOfClasses );
+        
+        // 17 October 2026
+        candidateLists = null;
+        if( configuration.isCandidateLists( ) == true &&
+            ( configuration.getProblemNumber( ) == Parameters.TSP_BERLIN52 ||
+              configuration.getProblemNumber( ) == Parameters.TSP_ST70 ||
+              configuration.getProblemNumber( ) == Parameters.TSP_RAT99 ||
+              configuration.getProblemNumber( ) == Parameters.TSP_RAT195 ) )
+        {
+            candidateLists = problemController.getTSP( ).getNearestNeighbours( 
+                configuration.getCandidateListSize( ) );
+        }
+        
+        // 17 October 2026
+        heuristicMatrix = null;
+        if( configuration.isHeuristics( ) == true &&
+            ( configuration.getProblemNumber( ) == Parameters.TSP_BERLIN52 ||
+              configuration.getProblemNumber( ) == Parameters.TSP_ST70 ||
+              configuration.getProblemNumber( ) == Parameters.TSP_RAT99 ||
+              configuration.getProblemNumber( ) == Parameters.TSP_RAT195 ) )
+        {
+            heuristicMatrix = problemController.getTSP( ).getHeuristicMatrix( 
+                configuration.getBETA_TSP( ) );
+        }
+        
         // for testing only
 //        showLists( );   
 
@@ -267,7 +493,7 @@ public class Controller
         assert problemController != null;   
         
         
-        if( Parameters.problemNumber == Parameters.TSP_BERLIN52 )
+        if( configuration.getProblemNumber( ) == Parameters.TSP_BERLIN52 )
         {
             assert this.tspNodes != null;
             
@@ -374,32 +600,74 @@ public class Controller
         
         long runBefore = System.currentTimeMillis( );
 
+        // 17 October 2026
+        // every run has its own random stream, split from the master seed
+        this.runStream = RandomStream.forRun( configuration.getMasterSeed( ), runNumber );
+        
+        // 17 October 2026, and starts with no retries, whichever runs
+        // this controller has done before
+        Arrays.fill( this.numberOfRetries, 0 );
+        Arrays.fill( this.averageAttempts, 0.0 );
+        
         // create a new Pheromone table for each run
-        pheromoneTable = new PheromoneMatrix( amList, numberOfClasses, problemController );
+        pheromoneTable = new PheromoneMatrix( 
+            amList, numberOfClasses, problemController, configuration );
+        pheromoneTable.setWorkerPool( this.updatePool ); // 17 October 2026
+        
+        // 17 October 2026, and the edge sets reused in every iteration
+        bestPathEdges = new EdgeSet( pheromoneTable.size( ) );
+        worstPathEdges = new EdgeSet( pheromoneTable.size( ) );
 //        pheromoneTable.show( );
+        
+        // 17 October 2026, and the alpha table that follows it
+        alphaTable = new AlphaMatrix( 
+            this.pheromoneTable, 
+            configuration.getAlpha( ), 
+            this.heuristicMatrix, 
+            configuration.isTreeSampling( ) );
+        
+        // 17 October 2026, and for a pooled colony, the ants of the run
+        if( this.pathBuffers != null )
+        {
+            createAntPool( );
+        }
     
         // clear out the archive for the new run
         this.eliteArchive.clear( );
         
+        // 17 October 2026, and the fitness cache
+        if( this.fitnessCache != null )
+        {
+            this.fitnessCache.clear( );
+        }
+        
+        // 17 October 2026, and the Pareto archive
+        if( this.paretoArchive != null )
+        {
+            this.paretoArchive.clear( );
+        }
+        
         // perform ACO search until iterations are terminated
-        for( int i = 0; i < AlgorithmParameters.NUMBER_OF_ITERATIONS; i++  )
+        for( int i = 0; i < configuration.getNumberOfIterations( ); i++  )
         {
             before = System.currentTimeMillis( );
             
-            AlphaMatrix alphaTable = new AlphaMatrix( this.pheromoneTable, AlgorithmParameters.alpha );
+            // 17 October 2026, recalculate only what the last update changed
+            this.alphaTable.catchUp( this.pheromoneTable );
 
             // the classic ant colony optimisation loop
             
-            generateSolutions( i, alphaTable );
+            generateSolutions( i, this.alphaTable );
             
             // use if want to update with a best-so-far approach, based on CBO or NAC
             // only for software design problem instances
-            if( AlgorithmParameters.replacementElitism == true ) { elitistReplace( ); }
+            if( configuration.isReplacementElitism( ) == true ) { elitistReplace( ); }
             
             daemonActions( );
             
-            BestPathsMatrix bpm = new BestPathsMatrix( pheromoneTable.size( ) );
-            pheromoneUpdate( i, bpm );
+            // 17 October 2026, reuse the set of best path edges
+            this.bestPathEdges.clear( );
+            pheromoneUpdate( i, this.bestPathEdges );
             
             // record iteration information
             after = System.currentTimeMillis( );
@@ -421,10 +689,10 @@ public class Controller
             }
             
             // 18 September 2018, for software design problem instances only
-            if( Parameters.problemNumber == Parameters.CBS ||
-                Parameters.problemNumber == Parameters.GDP || 
-                Parameters.problemNumber == Parameters.RANDOMISED ||
-                Parameters.problemNumber == Parameters.SC )
+            if( configuration.getProblemNumber( ) == Parameters.CBS ||
+                configuration.getProblemNumber( ) == Parameters.GDP || 
+                configuration.getProblemNumber( ) == Parameters.RANDOMISED ||
+                configuration.getProblemNumber( ) == Parameters.SC )
             {
                 // 23 August 2018. Snapshots, and area under the cost curve
                 calculateSnapshots( runNumber, i );
@@ -433,7 +701,7 @@ public class Controller
             }
             
             // all done, so lastly make ready for next iteration
-            if( AlgorithmParameters.replacementElitism == true ) { updateEliteArchive( ); }
+            if( configuration.isReplacementElitism( ) == true ) { updateEliteArchive( ); }
             clearEnvironment( ); 
             
         }   // end for each iteration
@@ -448,6 +716,20 @@ public class Controller
         // 2 Feb 2016
         batchResults.maxNumberOfInvalids[ runNumber ] = this.maxInvalids;
         
+        // 17 October 2026
+        if( this.fitnessCache != null )
+        {
+            batchResults.fitnessCacheHits[ runNumber ] = this.fitnessCache.getHits( );
+            batchResults.fitnessCacheMisses[ runNumber ] = this.fitnessCache.getMisses( );
+        }
+        
+        // 17 October 2026, snapshot the trade-off front of the run
+        if( this.paretoArchive != null )
+        {
+            batchResults.paretoFronts[ runNumber ] = new MultiObjectiveResults( this.paretoArchive );
+            batchResults.paretoHypervolume[ runNumber ] = this.paretoArchive.getHypervolume( );
+        }
+        
         batchResults.bestCombinedValueAt50OverRuns[ runNumber ] = this.bestSoFarCombined;
         
         // 18 September 2018 for TSP
@@ -467,6 +749,114 @@ public class Controller
     
     
     
+    /**
+     * Perform every run of the batch, the runs sharing out among a pool
+     * of workers, each with a controller of its own.
+     * Each worker performs a contiguous block of runs, and each run
+     * records into its own rows of the shared batch results, so the
+     * results are as if the runs were performed one after another.
+     * Returns when all runs are done, with the pool of workers shut down.
+     * 17 October 2026
+     */
+    public void runConcurrently( )
+    {
+        final int numberOfWorkers = 
+            Math.min( configuration.getNumberOfRunThreads( ), configuration.getNumberOfRuns( ) );
+        assert numberOfWorkers > 0;
+        
+        // as the runs already keep the threads busy, each run is performed sequentially,
+        // which gives the same results as parallel construction, update and
+        // evaluation, without a pool of workers for every run
+        final Configuration sequential = this.configuration.withParallelism( 
+            false, false, false, this.configuration.getNumberOfConstructionThreads( ) );
+        
+        Controller[ ] controllers = new Controller[ numberOfWorkers ];
+        for( int w = 0; w < numberOfWorkers; w++ )
+        {
+            controllers[ w ] = new Controller( 
+                this.problemController, this.batchResults, sequential );
+        }
+        
+        WorkerPool runPool = new WorkerPool( numberOfWorkers );
+        
+        try
+        {
+            runPool.forEachBlock( numberOfWorkers, ( from, to ) ->
+            {
+                for( int w = from; w < to; w++ )
+                {
+                    final int firstRun = 
+                        (int) ( (long) configuration.getNumberOfRuns( ) * w / numberOfWorkers );
+                    final int endRun = 
+                        (int) ( (long) configuration.getNumberOfRuns( ) * ( w + 1 ) / numberOfWorkers );
+
+                    for( int r = firstRun; r < endRun; r++ )
+                    {
+                        controllers[ w ].run( r );
+                    }
+                }
+            } );
+        }
+        finally
+        {
+            runPool.shutdown( );
+        }
+    }
+    
+    /**
+     * Release the worker threads of the construction, update and
+     * evaluation pools, once all runs are done
+     * 17 October 2026
+     */
+    public void shutdown( )
+    {
+        if( this.constructionPool != null )
+        {
+            this.constructionPool.shutdown( );
+        }
+        
+        if( this.updatePool != null && this.updatePool != this.constructionPool )
+        {
+            this.updatePool.shutdown( );
+        }
+        
+        if( this.evaluationPool != null && 
+            this.evaluationPool != this.constructionPool &&
+            this.evaluationPool != this.updatePool )
+        {
+            this.evaluationPool.shutdown( );
+        }
+    }
+    
+    /**
+     * create the ants of a pooled colony, once per run, 
+     * to construct over the alpha table of the run
+     * 17 October 2026
+     */
+    private void createAntPool( )
+    {
+        assert this.alphaTable != null;
+        
+        this.antPool = new Ant[ AlgorithmParameters.NUMBER_OF_ANTS ];
+        
+        for( int i = 0; i < AlgorithmParameters.NUMBER_OF_ANTS; i++ )
+        {
+            Ant ant = new Ant( 
+                this.amList,
+                this.attributeList,
+                this.methodList,
+                this.numberOfClasses, 
+                this.alphaTable, 
+                configuration.isConstraintHandling( ),
+                this.tspNodes,
+                this.runStream,
+                this.configuration );  
+            
+            ant.setCandidateLists( this.candidateLists );
+            this.antPool[ i ] = ant;
+        }
+    }
+    
     /**
      * construction phase
      * @param iteration counter
@@ -479,36 +869,108 @@ public class Controller
         assert alphaMatrix != null;
         assert problemController != null;
         
+        // 17 October 2026
+        // split a random stream for each ant in ant order, before
+        // construction begins, so that each ant's choices are the same
+        // whichever worker thread constructs it...
+        for( int i = 0; i < AlgorithmParameters.NUMBER_OF_ANTS; i++ )
+        {
+            this.antStreams[ i ] = this.runStream.split( );
+        }
+        
+        // ...and each ant writes its path into its own slot, so the colony
+        // is the same whichever worker thread constructs which ant
+        
+        // for a pooled colony, the paths are reused from two iterations ago
+        final Path[ ] buffer = 
+            ( this.pathBuffers != null ) ? this.pathBuffers[ iterationCounter % 2 ] : null;
+        
+        if( this.constructionPool != null )
+        {
+            this.constructionPool.forEachBlock( 
+                AlgorithmParameters.NUMBER_OF_ANTS, 
+                ( from, to ) -> constructPaths( from, to, alphaMatrix, buffer ) );
+        }
+        else
+        {
+            constructPaths( 0, AlgorithmParameters.NUMBER_OF_ANTS, alphaMatrix, buffer );
+        }
+        
         int retries = 0;
         int attemptTotal = 0;
                 
         for( int i = 0; i < AlgorithmParameters.NUMBER_OF_ANTS; i++ )
         {
-            Ant ant = new Ant( 
+            assert this.pathArray[ i ] != null;
+            colony.add( this.pathArray[ i ] );
+            this.pathArray[ i ] = null;
+            
+            final int attempts = this.attemptsPerAnt[ i ];
+            
+            if( attempts > 0 )
+            {
+                retries++;
+            }
+            
+            attemptTotal += attempts;
+        }
+        
+        numberOfRetries[ iterationCounter ] = retries;
+        
+        if( retries > 0 ) // prevent divide by zero
+        {    
+            averageAttempts[ iterationCounter ] = (double) attemptTotal / (double) retries;
+        }
+    }
+    
+    /**
+     * construct the solution paths for a block of ants, writing
+     * each path and its number of retry attempts into the ant's slot
+     * @param from first ant of the block (inclusive)
+     * @param to last ant of the block (exclusive)
+     * @param alphaMatrix 
+     * @param buffer of paths to construct into, or null if not pooled
+     */
+    private void constructPaths( int from, int to, AlphaMatrix alphaMatrix, Path[ ] buffer )
+    {
+        assert from >= 0;
+        assert to <= AlgorithmParameters.NUMBER_OF_ANTS;
+        assert alphaMatrix != null;
+        
+        for( int i = from; i < to; i++ )
+        {
+            Ant ant = null;
+            
+            if( buffer != null ) // 17 October 2026, pooled colony
+            {
+                ant = this.antPool[ i ];
+                ant.reuse( this.antStreams[ i ], buffer[ i ] );
+            }
+            else
+            {
+                ant = new Ant( 
                     this.amList,
                     this.attributeList,
                     this.methodList,
                     this.numberOfClasses, 
                     alphaMatrix, 
-                    AlgorithmParameters.constraintHandling,
-                    this.tspNodes );  
+                    configuration.isConstraintHandling( ),
+                    this.tspNodes,
+                    this.antStreams[ i ],
+                    this.configuration );  
+                
+                ant.setCandidateLists( this.candidateLists );
+            }
 
             assert ant != null; 
             int attempts = 0;
+            
+            // each ant then generates a complete solution (path)
+            ant.generateSolution( );
              
-            if( AlgorithmParameters.constraintHandling == false )
-            {
-                // each ant then generates a complete solution (path),
-                // and adds it to the colony
-                ant.generateSolution( );
-                colony.add( ant.getPath( ) );
-            }
-            else // we are handling constraints, so try repeatedly until we find a valid path
+            if( configuration.isConstraintHandling( ) == true )
             {
-                assert( AlgorithmParameters.constraintHandling == true );
-                
-                ant.generateSolution( ); 
-                
+                // we are handling constraints, so try repeatedly until we find a valid path
                 while( ant.isValidPath( ) == false )
                 {
                     ant.generateSolution( ); 
@@ -516,23 +978,10 @@ public class Controller
                 }
                 
                 assert ant.isValidPath( ) == true; 
-                                
-                if( attempts > 0 )
-                {
-                    retries++;
-                }
-                
-                colony.add( ant.getPath( ) );
             }
             
-            attemptTotal += attempts;
-        }
-        
-        numberOfRetries[ iterationCounter ] = retries;
-        
-        if( retries > 0 ) // prevent divide by zero
-        {    
-            averageAttempts[ iterationCounter ] = (double) attemptTotal / (double) retries;
+            this.pathArray[ i ] = ant.getPath( );
+            this.attemptsPerAnt[ i ] = attempts;
         }
     }
     
@@ -560,6 +1009,7 @@ public class Controller
         this.worstSoFarCombined = 0.0;
         
         int invalidCounter = 0;
+        this.colonyRanks.clear( ); // 17 October 2026
         this.maxInvalids = 0; 
         
         // assert colony is OK
@@ -568,25 +1018,45 @@ public class Controller
 
         int iterationCounter = 0;
         
-        // get each path in colony, determine fitness, find single best and worst etc.
-        for( Path path : this.colony )
+        // 17 October 2026
+        // first determine the fitness of each path, held with the path...
+        final boolean tsp = isTSP( );
+        
+        if( this.fitnessCache != null )
         {
-//            path.showRawResults( );
+            // ...looking up each design in colony order, so that the
+            // hits are the same however the evaluation is shared out...
+            forEachPath( ( from, to ) -> makeDesignKeys( from, to ) );
             
-            // if it's a TSP problem instance
-            if( Parameters.problemNumber == Parameters.TSP_BERLIN52 ||
-                Parameters.problemNumber == Parameters.TSP_ST70 ||
-                Parameters.problemNumber == Parameters.TSP_RAT99 ||
-                Parameters.problemNumber == Parameters.TSP_RAT195 )    
+            for( int i = 0; i < this.colony.size( ); i++ )
             {
-                // 18 September 2018 calculate the solution path cost in TSP
-                DaemonOperators.calculateTSPSolutionPathLength( path, problemController );
+                this.cacheHits[ i ] = this.fitnessCache.lookup( 
+                    this.designHashes[ i ], this.designKeys[ i ], this.colony.get( i ) );
             }
-            else // must be a software design problem instance
+        }
+        
+        forEachPath( ( from, to ) -> evaluatePaths( from, to, tsp ) );
+        
+        if( this.fitnessCache != null )
+        {
+            // ...and storing the designs that were missed, again in order
+            for( int i = 0; i < this.colony.size( ); i++ )
+            {
+                if( this.cacheHits[ i ] == false )
+                {
+                    this.fitnessCache.store( 
+                        this.designHashes[ i ], this.designKeys[ i ], this.colony.get( i ) );
+                }
+            }
+        }
+        
+        // ...then get each path in colony in order, find single best and worst etc.
+        for( Path path : this.colony )
+        {
+//            path.showRawResults( );
+            
+            if( tsp == false ) // must be a software design problem instance
             {
-                // 29 November 2015 calculate fitness from the software design path
-                DaemonOperators.calculateDesignSolutionPathFitness( path, problemController );
-
                 // keep running total for iteration average
                 runningTotalCBO += path.getCBO( ); 
 
@@ -594,6 +1064,14 @@ public class Controller
                 {
                     invalidCounter++;
                 }
+                
+                // 17 October 2026
+                if( this.paretoArchive != null )
+                {
+                    this.paretoObjectives[ 0 ] = path.getCBO( );
+                    this.paretoObjectives[ 1 ] = path.getEleganceNAC( );
+                    this.paretoArchive.offer( this.paretoObjectives );
+                }
             }
             
             calculateSingleBestAndWorst( path, iterationCounter );
@@ -609,10 +1087,10 @@ public class Controller
         }
         
         
-        if( Parameters.problemNumber == Parameters.CBS || 
-            Parameters.problemNumber == Parameters.GDP ||     
-            Parameters.problemNumber == Parameters.RANDOMISED ||     
-            Parameters.problemNumber == Parameters.SC )
+        if( configuration.getProblemNumber( ) == Parameters.CBS || 
+            configuration.getProblemNumber( ) == Parameters.GDP ||     
+            configuration.getProblemNumber( ) == Parameters.RANDOMISED ||     
+            configuration.getProblemNumber( ) == Parameters.SC )
         {
             assert runningTotalCBO >= 0.0;
 
@@ -646,6 +1124,87 @@ public class Controller
         calculateBestAndWorst( ); // for second and third best and worst
     }
     
+    /**
+     * determine the fitness of a block of paths in the colony,
+     * recording it with each path
+     * 17 October 2026
+     * @param from first path of the block (inclusive)
+     * @param to last path of the block (exclusive)
+     * @param tsp - true if a TSP problem instance
+     */
+    private void evaluatePaths( int from, int to, boolean tsp )
+    {
+        assert from >= 0;
+        assert to <= this.colony.size( );
+        
+        for( int i = from; i < to; i++ )
+        {
+            final Path path = this.colony.get( i );
+            
+            // 17 October 2026, CBO already found in the cache, so
+            // only NAC and combined fitness, from the class sizes
+            if( this.cacheHits != null && this.cacheHits[ i ] )
+            {
+                this.designEvaluator.evaluateWithCBO( path );
+                continue;
+            }
+            
+            if( tsp )
+            {
+                // 18 September 2018 calculate the solution path cost in TSP
+                DaemonOperators.calculateTSPSolutionPathLength( path, problemController );
+            }
+            else // must be a software design problem instance
+            {
+                // 29 November 2015 calculate fitness from the software design path
+                // 17 October 2026, straight from the node numbers of the path
+                this.designEvaluator.evaluateFitness( path );
+            }
+        }
+    }
+    
+    /**
+     * make the fitness cache key of a block of paths in the colony
+     * 17 October 2026
+     * @param from first path of the block (inclusive)
+     * @param to last path of the block (exclusive)
+     */
+    private void makeDesignKeys( int from, int to )
+    {
+        for( int i = from; i < to; i++ )
+        {
+            this.designHashes[ i ] = 
+                this.fitnessCache.makeKey( this.colony.get( i ), this.designKeys[ i ] );
+        }
+    }
+    
+    /**
+     * run a task on every path in the colony, shared out
+     * in blocks on the evaluation pool if there is one
+     * 17 October 2026
+     * @param task for each block of paths
+     */
+    private void forEachPath( WorkerPool.BlockTask task )
+    {
+        if( this.evaluationPool != null )
+        {
+            this.evaluationPool.forEachBlock( this.colony.size( ), task );
+        }
+        else
+        {
+            task.run( 0, this.colony.size( ) );
+        }
+    }
+    
+    /**
+     * @return true if the problem instance is a TSP
+     * 17 October 2026
+     */
+    private boolean isTSP( )
+    {
+        return configuration.isTSP( );
+    }
+    
     // 5 July 2017
     // Refactor calculation of single best and worst solution paths 
     // in colony into a method.
@@ -655,10 +1214,10 @@ public class Controller
         assert iterationCounter >= 0;
         assert iterationCounter < AlgorithmParameters.NUMBER_OF_ANTS;
         
-        if( Parameters.problemNumber == Parameters.CBS || 
-            Parameters.problemNumber == Parameters.GDP ||
-            Parameters.problemNumber == Parameters.RANDOMISED ||
-            Parameters.problemNumber == Parameters.SC )
+        if( configuration.getProblemNumber( ) == Parameters.CBS || 
+            configuration.getProblemNumber( ) == Parameters.GDP ||
+            configuration.getProblemNumber( ) == Parameters.RANDOMISED ||
+            configuration.getProblemNumber( ) == Parameters.SC )
         {
             double externalCoupling = path.getCBO( );
             assert externalCoupling >= 0.0 : "impossible CBO for path: " + iterationCounter;
@@ -706,6 +1265,9 @@ public class Controller
                 this.worstSoFarCombined = combined;
                 this.worstCombinedIndex = iterationCounter;
             }
+            
+            // 17 October 2026, and the ranks of the best and worst
+            this.colonyRanks.offer( iterationCounter, combined );
         }
         else // must be TSP problem instance
         {
@@ -716,101 +1278,111 @@ public class Controller
                 this.bestSoFarTSPPathLength = pathLength;
                 this.bestTSPIndex = iterationCounter;
             }
+            
+            // 17 October 2026, and the ranks of the best and worst
+            this.colonyRanks.offer( iterationCounter, pathLength );
         }
     }
     
     /**
-     * Calculate best and worst paths in the colony 
-     * by sorting the paths in the colony first.
-     * Refactored 26 June 2018, 17 September 2018
+     * Calculate the best and worst paths in the colony,
+     * from the ranks selected as the colony was scanned.
+     * Refactored 26 June 2018, 17 September 2018, 
+     * and 17 October 2026, without sorting the colony;
+     * a rank beyond those selected is left null
      */
     private void calculateBestAndWorst( )
     {
         assert this.colony != null;
+        assert this.colonyRanks.size( ) == configuration.getSelectedRanks( );
         
         // if the problem instance is a TSP...
         
-        if( Parameters.problemNumber == Parameters.TSP_BERLIN52 ||
-            Parameters.problemNumber == Parameters.TSP_ST70 || 
-            Parameters.problemNumber == Parameters.TSP_RAT99 ||
-            Parameters.problemNumber == Parameters.TSP_RAT195 )     
+        if( isTSP( ) )     
         {
-            double bestTSPPathLength = 0.0;
-            double secondBestTSPPathLength = 0.0;
-            double thirdBestTSPPathLength = 0.0;
+            this.bestTSPPathInColony = lowestInColony( 0 );
+            this.secondBestTSPPathInColony = lowestInColony( 1 );
+            this.thirdBestTSPPathInColony = lowestInColony( 2 );
             
-            this.colony.sort( new PathComparatorForTSP( ) );
+            assert this.secondBestTSPPathInColony == null ||
+                   this.bestTSPPathInColony.getTSPPathLength( ) <= 
+                   this.secondBestTSPPathInColony.getTSPPathLength( );
+            assert this.thirdBestTSPPathInColony == null ||
+                   this.secondBestTSPPathInColony.getTSPPathLength( ) <= 
+                   this.thirdBestTSPPathInColony.getTSPPathLength( );
             
-            this.bestTSPPathInColony = this.colony.get( 0 );
-            bestTSPPathLength = this.bestTSPPathInColony.getTSPPathLength( );
-            this.secondBestTSPPathInColony = this.colony.get( 1 );
-            secondBestTSPPathLength = this.secondBestTSPPathInColony.getTSPPathLength( );
-            this.thirdBestTSPPathInColony = this.colony.get( 2 );
-            thirdBestTSPPathLength = this.thirdBestTSPPathInColony.getTSPPathLength( );
+            this.worstTSPPathInColony = highestInColony( 0 );
+            this.secondWorstTSPPathInColony = highestInColony( 1 );
+            this.thirdWorstTSPPathInColony = highestInColony( 2 );
             
-            assert bestTSPPathLength  <= secondBestTSPPathLength;
-            assert secondBestTSPPathLength <= thirdBestTSPPathLength;
-            
-            double worstTSPPathLength = 0.0;
-            double secondWorstTSPPathLength = 0.0;
-            double thirdWorstTSPPathLength = 0.0;
-            
-            this.worstTSPPathInColony = this.colony.get( AlgorithmParameters.NUMBER_OF_ANTS - 1 );
-            worstTSPPathLength = this.worstTSPPathInColony.getTSPPathLength( );
-            this.secondWorstTSPPathInColony = this.colony.get( AlgorithmParameters.NUMBER_OF_ANTS - 2 );
-            secondWorstTSPPathLength = this.secondWorstTSPPathInColony.getTSPPathLength( );
-            this.thirdWorstTSPPathInColony = this.colony.get( AlgorithmParameters.NUMBER_OF_ANTS - 3 );
-            thirdWorstTSPPathLength = this.thirdWorstTSPPathInColony.getTSPPathLength( );
-            
-            assert worstTSPPathLength >= secondWorstTSPPathLength;
-            assert secondWorstTSPPathLength >= thirdWorstTSPPathLength;
+            assert this.secondWorstTSPPathInColony == null ||
+                   this.worstTSPPathInColony.getTSPPathLength( ) >= 
+                   this.secondWorstTSPPathInColony.getTSPPathLength( );
+            assert this.thirdWorstTSPPathInColony == null ||
+                   this.secondWorstTSPPathInColony.getTSPPathLength( ) >= 
+                   this.thirdWorstTSPPathInColony.getTSPPathLength( );
         }
         else // must be a software design problem instance
         {
-            // fistly sort the colony according to Fcomb
-            this.colony.sort( new PathComparatorForFcombined( ) );   
-        
             // find the second and third best paths
             // (best path already calulated previously). 
-            final double bestCombined = this.colony.get( 0 ).getCombined( );
-
-            this.secondBestPathInColonyCombined = this.colony.get( 1 );
-            final double secondBestCombined = this.secondBestPathInColonyCombined.getCombined( );
-            assert bestCombined <= secondBestCombined : 
-                    "error in second best!" + 
-                    " best is: " + bestCombined +
-                    " and second best is: " + secondBestCombined;
+            final double bestCombined = lowestInColony( 0 ).getCombined( );
 
-            this.thirdBestPathInColonyCombined = this.colony.get( 2 );
-            final double thirdBestCombined = this.thirdBestPathInColonyCombined.getCombined( );
-            assert secondBestCombined <= thirdBestCombined : 
-                    "error in third best!" + 
-                    " second best is: " + secondBestCombined + 
-                    " and third best is: " + thirdBestCombined;
+            this.secondBestPathInColonyCombined = lowestInColony( 1 );
+            assert this.secondBestPathInColonyCombined == null ||
+                   bestCombined <= this.secondBestPathInColonyCombined.getCombined( ) : 
+                    "error in second best!";
 
-            this.worstPathInColonyCombined = this.colony.get( AlgorithmParameters.NUMBER_OF_ANTS - 1 );
+            this.thirdBestPathInColonyCombined = lowestInColony( 2 );
+            assert this.thirdBestPathInColonyCombined == null ||
+                   this.secondBestPathInColonyCombined.getCombined( ) <= 
+                   this.thirdBestPathInColonyCombined.getCombined( ) : 
+                    "error in third best!";
 
-            final double sortedColonyWorstCombinedValue = this.worstPathInColonyCombined.getCombined( );
-            // System.out.println( "  update worst is: " + this.worstPathInColonyCombined.toString( )+ " " + sortedColonyWorstCombinedValue );
+            this.worstPathInColonyCombined = highestInColony( 0 );
 
             // 25 July 2017
-            this.secondWorstPathInColonyCombined = this.colony.get( AlgorithmParameters.NUMBER_OF_ANTS - 2 );
-            final double sortedColonySecondWorstCombined = this.secondWorstPathInColonyCombined.getCombined( );
-            assert sortedColonySecondWorstCombined <= sortedColonyWorstCombinedValue : "error in second worst!";
+            this.secondWorstPathInColonyCombined = highestInColony( 1 );
+            assert this.secondWorstPathInColonyCombined == null ||
+                   this.secondWorstPathInColonyCombined.getCombined( ) <= 
+                   this.worstPathInColonyCombined.getCombined( ) : "error in second worst!";
 
-            this.thirdWorstPathInColonyCombined = this.colony.get( AlgorithmParameters.NUMBER_OF_ANTS - 3 );
-            final double sortedColonyThirdWorstCombined = this.thirdWorstPathInColonyCombined.getCombined( );
-            assert sortedColonyThirdWorstCombined <= sortedColonySecondWorstCombined : "error in third worst!";
+            this.thirdWorstPathInColonyCombined = highestInColony( 2 );
+            assert this.thirdWorstPathInColonyCombined == null ||
+                   this.thirdWorstPathInColonyCombined.getCombined( ) <= 
+                   this.secondWorstPathInColonyCombined.getCombined( ) : "error in third worst!";
         }
     }    
     
+    /**
+     * 17 October 2026
+     * @param rank - 0 for the best path in the colony
+     * @return the path of the given rank, or null if not selected
+     */
+    private Path lowestInColony( int rank )
+    {
+        return rank < this.colonyRanks.size( ) ? 
+            this.colony.get( this.colonyRanks.getLowest( rank ) ) : null;
+    }
+    
+    /**
+     * 17 October 2026
+     * @param rank - 0 for the worst path in the colony
+     * @return the path of the given rank, or null if not selected
+     */
+    private Path highestInColony( int rank )
+    {
+        return rank < this.colonyRanks.size( ) ? 
+            this.colony.get( this.colonyRanks.getHighest( rank ) ) : null;
+    }
+    
    /**
      * adjust the pheromone levels:
      * 1) apply evaporation
      * 2) update Trail levels based on ant construction
      * @param weights for multi-objective pheromone update
      */ 
-    private void pheromoneUpdate( int iteration, BestPathsMatrix bpm )
+    private void pheromoneUpdate( int iteration, EdgeSet bpm )
     { 
         assert iteration >= 0;
         assert bpm != null; 
@@ -857,11 +1429,25 @@ public class Controller
         
         while( this.eliteArchive.empty( ) == false ) // handle first iteration where eilte archive is empty
         {
-            int randomIndex = myUtils.Utility.getRandomInRange( 0, size - 1 );
+            int randomIndex = this.runStream.getRandomInRange( 0, size - 1 );
             
             Path elitePath = this.eliteArchive.pop( ); // pop the element in the archive
         
-            colony.set( randomIndex, elitePath );
+            if( this.pathBuffers != null )
+            {
+                // 17 October 2026, a pooled colony holds only paths of the
+                // current buffer, so copy the elite path into its slot
+                colony.get( randomIndex ).copyFrom( elitePath );
+            }
+            else
+            {
+                // 17 October 2026, a copy, as the archive may hold one path
+                // twice, as best CBO and best NAC, and no path may fill two
+                // slots, to be evaluated by two workers at once
+                Path copy = Ant.createPath( configuration.getProblemNumber( ) );
+                copy.copyFrom( elitePath );
+                colony.set( randomIndex, copy );
+            }
         }
     }
     
@@ -879,22 +1465,33 @@ public class Controller
         Path bestNACPath = null; 
         Path bestATMRPath = null;
         
+        // 17 October 2026, the colony is no longer sorted by fitness, 
+        // so equal values go to the path that the sort put first
+        final boolean tsp = isTSP( );
+        double bestCBORank, bestNACRank;
+        bestCBORank = bestNACRank = 0.0;
+        
         Iterator< Path > it = colony.iterator( );
         
         while( it.hasNext( ) )
         {
             Path p = it.next( );
+            final double rank = tsp ? p.getTSPPathLength( ) : p.getCombined( );
             
-            if( p.getCBO( ) < bestCBO )
+            if( p.getCBO( ) < bestCBO || 
+                ( p.getCBO( ) == bestCBO && rank < bestCBORank ) )
             {
                 bestCBO = p.getCBO( );
                 bestCBOPath = p;
+                bestCBORank = rank;
             }
             
-            if( p.getEleganceNAC( ) < bestNAC )
+            if( p.getEleganceNAC( ) < bestNAC || 
+                ( p.getEleganceNAC( ) == bestNAC && rank < bestNACRank ) )
             {
                 bestNAC = p.getEleganceNAC( );
                 bestNACPath = p;
+                bestNACRank = rank;
             }
             
             if( p.getEleganceATMR( ) < bestATMR )
@@ -909,18 +1506,18 @@ public class Controller
         assert bestNACPath != null;
         assert bestATMRPath != null;
         
-        if( AlgorithmParameters.objectiveCBO == true )
+        if( configuration.isObjectiveCBO( ) == true )
         {
             this.eliteArchive.push( bestCBOPath );
         }
         
-        if( AlgorithmParameters.objectiveNAC == true )
+        if( configuration.isObjectiveNAC( ) == true )
         {
             this.eliteArchive.push( bestNACPath );
         }
         
         // 10 April 2013 comment out
-//        if( AlgorithmParameters.objectiveATMR == 
+//        if( configuration.isObjectiveATMR( ) == 
 //            AlgorithmParameters.Toggle.on )
 //        {
 //            this.eliteArchive.push( bestATMRPath );
@@ -950,52 +1547,63 @@ public class Controller
         batchResults.writeResults( );
     }
     
+    /**
+     * @return the heuristic information of the software design, 
+     * for the heuristic ants of this controller 17 October 2026
+     */
+    public HeuristicInformation getHeuristicInformation( )
+    {
+        return this.heuristicInformation;
+    }
+    
     // 5 September 2018 refactor for ACO iterations
     private void investigateInterference( final int runNumber, final int iteration )
     {
         assert runNumber >= 0;
         assert iteration >= 0;
         
-        BestPathsMatrix bpm = new BestPathsMatrix( pheromoneTable.size( ) );
-        switch( AlgorithmParameters.pheromoneStrength )
+        // 17 October 2026, the edges of the best and worst paths,
+        // in sets reused from one iteration to the next
+        EdgeSet bpm = this.bestPathEdges;
+        bpm.clear( );
+        switch( configuration.getPheromoneStrength( ) )
         {
             case AlgorithmParameters.MMAS_PHEROMONE_TRIPLE:
-                bpm.recordPath( this.thirdBestPathInColonyCombined );
+                bpm.addPath( this.thirdBestPathInColonyCombined );
             case AlgorithmParameters.MMAS_PHEROMONE_DOUBLE:
-                bpm.recordPath( this.secondBestPathInColonyCombined );
+                bpm.addPath( this.secondBestPathInColonyCombined );
             case AlgorithmParameters.MMAS_PHEROMONE_SINGLE:
-                bpm.recordPath( this.bestPathInColonyCombined );
+                bpm.addPath( this.bestPathInColonyCombined );
                 break;
             default:
                 assert false : "impossible pheromone strength!";
         }
-//        bpm.show( );
         
-        WorstPathsMatrix wpm = new WorstPathsMatrix( pheromoneTable.size( ) );
+        EdgeSet wpm = this.worstPathEdges;
+        wpm.clear( );
         if( AlgorithmParameters.MMAS_ANTIPHEROMONE == true )
-            //    && AlgorithmParameters.antiPheromonePhasePercentage > 0 )
+            //    && configuration.getAntiPheromonePhasePercentage( ) > 0 )
         {
-            switch( AlgorithmParameters.antipheromoneStrength )
+            switch( configuration.getAntipheromoneStrength( ) )
             {
                 case AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE:
-                    wpm.recordPath( this.thirdWorstPathInColonyCombined );
+                    wpm.addPath( this.thirdWorstPathInColonyCombined );
                 case AlgorithmParameters.ANTIPHEROMONE_STRENGTH_DOUBLE:
-                    wpm.recordPath( this.secondWorstPathInColonyCombined );
+                    wpm.addPath( this.secondWorstPathInColonyCombined );
                 case AlgorithmParameters.ANTIPHEROMONE_STRENGTH_SINGLE:
-                    wpm.recordPath( this.worstPathInColonyCombined );
+                    wpm.addPath( this.worstPathInColonyCombined );
                     break;
                 default:
                     assert false : "impossible pheromone strength!";
             }
         }
-//        wpm.show( );
-        
-        PathInterferenceMatrix pim = new PathInterferenceMatrix( pheromoneTable.size( ) );
-        pim.registerBestPathMatrix( bpm );
-        pim.registerWorstPathMatrix( wpm );
-//        pim.showInterferenceMatrix( );
         
-        double interference = pim.getInterference( ) * 100;
+        // interference is the percentage of cells of the matrix on both
+        // a best and a worst path; each shared edge is two cells, 
+        // one each way round
+        final int size = pheromoneTable.size( );
+        final int interferenceCount = 2 * bpm.countShared( wpm );
+        double interference = (double) interferenceCount / (double) ( size * size ) * 100;
 //        System.out.println( "interference is: " + df.format( interference ) + "%" ); 
         
         batchResults.interference[ runNumber ][ iteration ] = interference;
@@ -29,6 +29,16 @@ public class DesignPathRole extends Role
     {
         super( Distinction.design );
         
+        reset( );
+    }
+    
+    /**
+     * return the values to those of a new role, for reuse
+     * 17 October 2026
+     */
+    @Override
+    public final void reset( )
+    {
         externalCoupling = -99.99; // nonsense value
         averageCOMCohesion = -99.99; // nonsense value
         eleganceNAC = -99.99;
@@ -10,15 +10,41 @@ package engine;
  * @author Christopher Simons
  */
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 
 public class Path
 {
-    /** list of components representing a path */
-    private List< Node > list;
+    // 17 October 2026, the kinds of node in a path
+    public static final byte CITY = 0;
+    public static final byte NEST = 1;
+    public static final byte ATTRIBUTE = 2;
+    public static final byte METHOD = 3;
+    public static final byte END_OF_CLASS = 4;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    // 17 October 2026
+    // the path is held as the number of the node at each position,
+    // with the kind of node alongside; the nodes themselves are 
+    // a view over these, by way of a table indexed by node number
+    
+    /** the node number at each position */
+    private int[ ] ids;
+    
+    /** the kind of node at each position */
+    private byte[ ] kinds;
+    
+    /** number of positions in the path */
+    private int length;
+    
+    /** the nodes of the path, indexed by node number */
+    private Node[ ] nodeTable;
+    
+    /** true if the node table belongs to this path alone, and may be changed */
+    private boolean ownsNodeTable;
     
     private Role role;
     
@@ -31,13 +57,115 @@ public class Path
     /** constructor for a path */
     public Path( Role role )
     {
-        list = new ArrayList< Node >( );
+        ids = new int[ INITIAL_CAPACITY ];
+        kinds = new byte[ INITIAL_CAPACITY ];
+        length = 0;
+        nodeTable = null;
+        ownsNodeTable = false;
         assert role != null;
         this.role = role;
         dominationCount = 0; 
         valid = false;
     }
     
+    /**
+     * the kind of a node
+     * 17 October 2026
+     * @param node
+     * @return kind of node, e.g. METHOD
+     */
+    public static byte kindOf( Node node )
+    {
+        assert node != null;
+        
+        if( node instanceof Nest )
+        {
+            return NEST;
+        }
+        else if( node instanceof Attribute )
+        {
+            return ATTRIBUTE;
+        }
+        else if( node instanceof Method )
+        {
+            return METHOD;
+        }
+        else if( node instanceof EndOfClass )
+        {
+            return END_OF_CLASS;
+        }
+        else
+        {
+            return CITY;
+        }
+    }
+    
+    /**
+     * Share a table of nodes, indexed by node number, from which the nodes
+     * of the path are to be viewed, e.g. the node table of an ant. 
+     * Nodes added from the table need no table of the path's own.
+     * 17 October 2026
+     * @param nodeTable, never changed once shared
+     */
+    public void setNodeTable( Node[ ] nodeTable )
+    {
+        assert nodeTable != null;
+        this.nodeTable = nodeTable;
+        this.ownsNodeTable = false;
+    }
+   
+    /**
+     * make the path empty again, ready for reuse by an ant,
+     * keeping its storage
+     * 17 October 2026
+     */
+    public void reset( )
+    {
+        length = 0;
+        role.reset( );
+        dominationCount = 0;
+        weightedDominationCount = 0;
+        valid = false;
+    }
+    
+    /**
+     * make this path a copy of another, its nodes and its fitness values,
+     * keeping its own storage
+     * 17 October 2026
+     * @param other path, of the same role distinction
+     */
+    public void copyFrom( Path other )
+    {
+        assert other != null;
+        assert other.role.getDistinction( ) == role.getDistinction( );
+        
+        if( other == this )
+        {
+            return;
+        }
+        
+        ensureCapacity( other.length );
+        System.arraycopy( other.ids, 0, ids, 0, other.length );
+        System.arraycopy( other.kinds, 0, kinds, 0, other.length );
+        length = other.length;
+        
+        // the node table is now shared, so neither path may change it
+        nodeTable = other.nodeTable;
+        ownsNodeTable = false;
+        other.ownsNodeTable = false;
+        
+        role.setExternalCoupling( other.role.getExternalCoupling( ) );
+        role.setAverageCOMCohesion( other.role.getAverageCOMCohesion( ) );
+        role.setCohesion( other.role.getCohesion( ) );
+        role.setEleganceNAC( other.role.getEleganceNAC( ) );
+        role.setEleganceATMR( other.role.getEleganceATMR( ) );
+        role.setEleganceModularity( other.role.getEleganceModularity( ) );
+        role.setCombined( other.role.getCombined( ) );
+        
+        dominationCount = other.dominationCount;
+        weightedDominationCount = other.weightedDominationCount;
+        valid = other.valid;
+    }
    
     /**
      * add a node to the path
@@ -46,8 +174,46 @@ public class Path
     public void add( Node node )
     {
         assert node != null;
-        assert list != null;
-        list.add( node );
+        
+        final int number = node.getNumber( );
+        assert number >= 0 : "node number is: " + number;
+        
+        // 17 October 2026, a node not in the node table is added to 
+        // a table of the path's own, copied from any shared table
+        if( nodeTable == null || number >= nodeTable.length || nodeTable[ number ] != node )
+        {
+            if( ownsNodeTable == false || number >= nodeTable.length )
+            {
+                final int tableLength = ( nodeTable == null ) ? 
+                    number + 1 : Math.max( nodeTable.length, number + 1 );
+                
+                nodeTable = ( nodeTable == null ) ? 
+                    new Node[ tableLength ] : Arrays.copyOf( nodeTable, tableLength );
+                ownsNodeTable = true;
+            }
+            
+            nodeTable[ number ] = node;
+        }
+        
+        ensureCapacity( length + 1 );
+        ids[ length ] = number;
+        kinds[ length ] = kindOf( node );
+        length++;
+    }
+    
+    /**
+     * make room for at least the given number of positions
+     * 17 October 2026
+     * @param capacity 
+     */
+    private void ensureCapacity( int capacity )
+    {
+        if( capacity > ids.length )
+        {
+            final int newCapacity = Math.max( capacity, ids.length * 2 );
+            ids = Arrays.copyOf( ids, newCapacity );
+            kinds = Arrays.copyOf( kinds, newCapacity );
+        }
     }
     
     /**
@@ -56,8 +222,27 @@ public class Path
      */
     public Iterator< Node > iterator( )
     {
-        assert list != null;
-        return list.iterator( ); 
+        // 17 October 2026, a view over the node numbers
+        return new Iterator< Node >( )
+        {
+            private int index = 0;
+            
+            @Override
+            public boolean hasNext( )
+            {
+                return index < length;
+            }
+            
+            @Override
+            public Node next( )
+            {
+                if( index >= length )
+                {
+                    throw new NoSuchElementException( );
+                }
+                return nodeTable[ ids[ index++ ] ];
+            }
+        };
     }
 
     
@@ -67,26 +252,74 @@ public class Path
      */
     public boolean isEmpty( )
     {
-        return list.isEmpty( ); 
+        return length == 0; 
     }
     
     public int size( )
     {
-        return list.size( );
+        return length;
     }
     
     public Node get( int index )
     {
         assert index >= 0;
-        assert index < list.size( );
+        assert index < length;
+        
+        return nodeTable[ ids[ index ] ];
+    }
+    
+    /**
+     * @param index, position in the path
+     * @return the number of the node at the position
+     * 17 October 2026
+     */
+    public int getId( int index )
+    {
+        assert index >= 0 && index < length : "index is: " + index;
+        
+        return ids[ index ];
+    }
+    
+    /**
+     * @param index, position in the path
+     * @return the kind of node at the position, e.g. METHOD
+     * 17 October 2026
+     */
+    public byte getKind( int index )
+    {
+        assert index >= 0 && index < length : "index is: " + index;
         
-        return list.get( index );
+        return kinds[ index ];
+    }
+    
+    /**
+     * The node numbers of the path, in positions 0 ... size( ) - 1,
+     * for reading along the path without a view of the nodes. 
+     * Not to be changed, and not to be kept once the path changes.
+     * 17 October 2026
+     * @return the node numbers
+     */
+    public int[ ] getIds( )
+    {
+        return ids;
+    }
+    
+    /**
+     * The kinds of node of the path, in positions 0 ... size( ) - 1.
+     * Not to be changed, and not to be kept once the path changes.
+     * 17 October 2026
+     * @return the kinds of node
+     */
+    public byte[ ] getKinds( )
+    {
+        return kinds;
     }
     
     public void show( )
     {
-        for( Node n : this.list )
+        for( int i = 0; i < length; i++ )
         {
+            Node n = get( i );
             System.out.print( n.getNumber( ) + " " );
             System.out.print( n.getName( ) + " " );
         }
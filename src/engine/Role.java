@@ -48,6 +48,9 @@ public abstract class Role
     public void setCombined( double combined ) { }
     public double getCombined( ) { return 0.0;}
     
+    // 17 October 2026, return the values to those of a new role
+    public void reset( ) { }
+    
     
 }   // end class
 
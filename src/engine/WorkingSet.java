@@ -0,0 +1,166 @@
+/*
+ * WorkingSet.java
+ * 17 October 2026
+ */
+
+package engine;
+
+/**
+ * The set of node numbers an ant has still to visit, held as
+ * a primitive array so that solution path construction allocates
+ * nothing. The position of every member is tracked, so that
+ * membership tests are O(1).
+ *
+ * Two kinds of removal are offered: removeAt( ) keeps the remaining
+ * members in the order they were added (as ArrayList.remove( ) did
+ * for the former working list), so the roulette wheel is laid out
+ * in exactly the same order as before; swapRemoveAt( ) is O(1),
+ * but changes the order of the remaining members.
+ *
+ * @author cl-simons
+ */
+
+public class WorkingSet
+{
+    /** the members, in positions 0 ... size - 1 */
+    private final int[ ] members;
+
+    /** the position of each node number in members, or -1 if absent */
+    private final int[ ] positions;
+
+    /** number of members */
+    private int size;
+
+    /**
+     * constructor
+     * @param capacity - one more than the highest node number
+     */
+    public WorkingSet( int capacity )
+    {
+        assert capacity > 0;
+        this.members = new int[ capacity ];
+        this.positions = new int[ capacity ];
+        java.util.Arrays.fill( this.positions, -1 );
+        this.size = 0;
+    }
+
+    /**
+     * remove all members
+     */
+    public void clear( )
+    {
+        for( int i = 0; i < this.size; i++ )
+        {
+            this.positions[ this.members[ i ] ] = -1;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * add a node number, at the end
+     * @param number of the node
+     */
+    public void add( int number )
+    {
+        assert number >= 0 && number < this.positions.length : "node number is: " + number;
+        assert this.positions[ number ] == -1 : "node already present: " + number;
+
+        this.members[ this.size ] = number;
+        this.positions[ number ] = this.size;
+        this.size++;
+    }
+
+    /**
+     * @return the number of members
+     */
+    public int size( )
+    {
+        return this.size;
+    }
+
+    /**
+     * @return true if there are no members left
+     */
+    public boolean isEmpty( )
+    {
+        return this.size == 0;
+    }
+
+    /**
+     * @param index, position in the set
+     * @return the node number at the position
+     */
+    public int get( int index )
+    {
+        assert index >= 0 && index < this.size : "index is: " + index;
+        return this.members[ index ];
+    }
+
+    /**
+     * @param number of the node
+     * @return true if the node number is a member
+     */
+    public boolean contains( int number )
+    {
+        return this.positions[ number ] >= 0;
+    }
+
+    /**
+     * @param number of the node
+     * @return position of the node number in the set, or -1 if absent
+     */
+    public int indexOf( int number )
+    {
+        return this.positions[ number ];
+    }
+
+    /**
+     * remove the member at a position, keeping the order of the rest
+     * @param index, position in the set
+     * @return the node number removed
+     */
+    public int removeAt( int index )
+    {
+        assert index >= 0 && index < this.size : "index is: " + index;
+
+        final int result = this.members[ index ];
+        this.positions[ result ] = -1;
+        this.size--;
+
+        for( int i = index; i < this.size; i++ )
+        {
+            final int number = this.members[ i + 1 ];
+            this.members[ i ] = number;
+            this.positions[ number ] = i;
+        }
+
+        return result;
+    }
+
+    /**
+     * remove the member at a position in O(1), by moving
+     * the last member into its place
+     * @param index, position in the set
+     * @return the node number removed
+     */
+    public int swapRemoveAt( int index )
+    {
+        assert index >= 0 && index < this.size : "index is: " + index;
+
+        final int result = this.members[ index ];
+        this.positions[ result ] = -1;
+        this.size--;
+
+        if( index < this.size )
+        {
+            final int last = this.members[ this.size ];
+            this.members[ index ] = last;
+            this.positions[ last ] = index;
+        }
+
+        return result;
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
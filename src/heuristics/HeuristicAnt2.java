@@ -11,6 +11,7 @@ import engine.EndOfClass;
 import engine.Method;
 import engine.Node;
 import java.util.List;
+import myUtils.RandomStream;
 import pheromone.AlphaMatrix;
 import pheromone.PheromoneOperators;
 import problem.ProblemController;
@@ -24,6 +25,9 @@ public class HeuristicAnt2 extends Ant
 {
     private int[ ][ ] useMatrix;    // required for CBO heuristic
     
+    // required for NAC heuristic 17 October 2026
+    private final HeuristicInformation heuristicInformation;
+    
     /** 
      * constructor
      * @param reference to list of attributes and methods
@@ -31,6 +35,8 @@ public class HeuristicAnt2 extends Ant
      * @param reference to alpha table
      * @param list of classes that user elects to "freeze"
      * @param handling constraints boolean
+     * @param random - the ant's own stream of random numbers 17 October 2026
+     * @param heuristicInformation of the design problem 17 October 2026
      */
     public HeuristicAnt2( 
         List< Node > nodes,
@@ -41,11 +47,16 @@ public class HeuristicAnt2 extends Ant
         List< CLSClass > freezeList,
         boolean handlingConstraints,
         int[ ][ ] useMatrix,
-        List< Node > tspNodes )
+        List< Node > tspNodes,
+        RandomStream random,
+        HeuristicInformation heuristicInformation )
     {
         //super( nodes, numberOfClasses, at, freezeList, handlingConstraints );
-        super( nodes, attributeList, methodList, numberOfClasses, at, handlingConstraints, tspNodes );
+        super( nodes, attributeList, methodList, numberOfClasses, 
+               at, handlingConstraints, tspNodes, random );
         this.useMatrix = useMatrix; 
+        assert heuristicInformation != null;
+        this.heuristicInformation = heuristicInformation;
     }
 
     /**
@@ -125,7 +136,7 @@ public class HeuristicAnt2 extends Ant
      */
     private int calculateNACDistance( int nodeCounter )
     {
-        int modulus = nodeCounter % HeuristicInformation.idealNumberOfElementsPerClass;
+        int modulus = nodeCounter % this.heuristicInformation.getIdealNumberOfElementsPerClass( );
         int NACDistance = 0;
         
         if( modulus == 0 )
@@ -134,7 +145,7 @@ public class HeuristicAnt2 extends Ant
         }
         else
         {
-            NACDistance = HeuristicInformation.idealNumberOfElementsPerClass - modulus;
+            NACDistance = this.heuristicInformation.getIdealNumberOfElementsPerClass( ) - modulus;
         }
         
 //        System.out.println( "node Counter is: " + nodeCounter + " distance is: " + NACDistance );
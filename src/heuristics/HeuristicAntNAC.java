@@ -28,6 +28,9 @@ import softwareDesign.CLSClass;
 
 public class HeuristicAntNAC extends Ant 
 {
+    /** the heuristic information of the design problem 17 October 2026 */
+    private final HeuristicInformation heuristicInformation;
+    
     /** 
      * constructor
      * @param reference to list of attributes and methods
@@ -35,15 +38,19 @@ public class HeuristicAntNAC extends Ant
      * @param reference to alpha table
      * @param list of classes that user elects to "freeze"
      * @param handling constraints boolean
+     * @param heuristicInformation of the design problem 17 October 2026
      */
     public HeuristicAntNAC( 
         List< Node > nodes,
         int numberOfClasses,
         AlphaTable at,
         List< CLSClass > freezeList,
-        boolean handlingConstraints )
+        boolean handlingConstraints,
+        HeuristicInformation heuristicInformation )
     {
         super( nodes, numberOfClasses, at, freezeList, handlingConstraints );
+        assert heuristicInformation != null;
+        this.heuristicInformation = heuristicInformation;
     }
     
     /**
@@ -53,7 +60,7 @@ public class HeuristicAntNAC extends Ant
     public void generateSolution( )
     {
         // pre-condition: heuristic information must have been set up
-        assert HeuristicInformation.idealNumberOfElementsPerClass > 0;
+        assert this.heuristicInformation.getIdealNumberOfElementsPerClass( ) > 0;
         
         // create a new local solution path though the environment  
         Path path = new Path( new DesignPathRole( ) );
@@ -77,12 +84,12 @@ public class HeuristicAntNAC extends Ant
         
         for( int i = 0; i < elements.length; i++ )
         {
-            elements[ i ] = HeuristicInformation.idealNumberOfElementsPerClass;
+            elements[ i ] = this.heuristicInformation.getIdealNumberOfElementsPerClass( );
         }
         
-        for( int j = 0; j < HeuristicInformation.remainderElements; j++ )
+        for( int j = 0; j < this.heuristicInformation.getRemainderElements( ); j++ )
         {
-            int random = Utility.getRandomInRange( 0, super.numberOfClasses - 1 );
+            int random = Utility.getRandomInRange( super.random, 0, super.numberOfClasses - 1 );
             elements[ random ]++;
         }
         
@@ -7,19 +7,21 @@ package heuristics;
 
 /**
  * The heuristic information used by a Heuristic Ant.
- * Implemented as a Singleton pattern, as there is only
- * one set of heuristic information per design problem. 
+ * There is one set of heuristic information per design problem,
+ * created by the controller of the problem and handed to its ants.
+ * Made an immutable instance rather than static fields, 17 October 2026,
+ * so that controllers of different problems may run side by side.
  * 
  * @author Christopher Simons
  */
 
 public class HeuristicInformation 
 {
-    public static int numberOfAttributes;
-    public static int numberOfMethods;
+    private final int numberOfAttributes;
+    private final int numberOfMethods;
     
-    public static int idealNumberOfElementsPerClass;
-    public static int remainderElements;
+    private final int idealNumberOfElementsPerClass;
+    private final int remainderElements;
     
     /**
      * set up the heuristic information.
@@ -29,30 +31,50 @@ public class HeuristicInformation
      * @param numMethods
      * @param numberOfClasses 
      */
-    public static void setUp( 
+    public HeuristicInformation( 
         int numAttributes, int numMethods, int numberOfClasses )
     {
         assert numAttributes >= 0; 
         assert numMethods >= 0;
         assert numberOfClasses >= 0;
         
-        numberOfAttributes = numAttributes;
-        numberOfMethods = numMethods;
+        this.numberOfAttributes = numAttributes;
+        this.numberOfMethods = numMethods;
         
         final int total = numberOfAttributes + numberOfMethods;
         
         // yes! I know this is integer division; but we want an integer
         if( numberOfClasses != 0 )
         {
-            idealNumberOfElementsPerClass = total / numberOfClasses;
-            remainderElements = total % numberOfClasses;
+            this.idealNumberOfElementsPerClass = total / numberOfClasses;
+            this.remainderElements = total % numberOfClasses;
         }
         else
         {
-            idealNumberOfElementsPerClass = 0;
-            remainderElements = 0;
+            this.idealNumberOfElementsPerClass = 0;
+            this.remainderElements = 0;
         }
     }
+    
+    public int getNumberOfAttributes( )
+    {
+        return this.numberOfAttributes;
+    }
+    
+    public int getNumberOfMethods( )
+    {
+        return this.numberOfMethods;
+    }
+    
+    public int getIdealNumberOfElementsPerClass( )
+    {
+        return this.idealNumberOfElementsPerClass;
+    }
+    
+    public int getRemainderElements( )
+    {
+        return this.remainderElements;
+    }
 
 }   // end class
 
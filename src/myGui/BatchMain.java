@@ -97,10 +97,20 @@ public class BatchMain
         
         Controller controller = new Controller( problemController );
         
-        for( int i = 0; i < Parameters.NUMBER_OF_RUNS; i++ )
+        // 17 October 2026
+        if( AlgorithmParameters.parallelRuns == true )
         {
-           controller.run( i );       
+            controller.runConcurrently( );
         }
+        else
+        {
+            for( int i = 0; i < Parameters.NUMBER_OF_RUNS; i++ )
+            {
+               controller.run( i );       
+            }
+        }
+        
+        controller.shutdown( ); // 17 October 2026
         
         controller.writeResultstoFile( );
         System.out.println( "ACO complete!" );
@@ -0,0 +1,159 @@
+/*
+ * RandomStream.java
+ * 17 October 2026
+ */
+
+package myUtils;
+
+/**
+ * A stream of pseudorandom numbers, backed by a SplittableRandom.
+ *
+ * Streams are derived from the single master seed held in
+ * Parameters.masterSeed: one stream per run, split from the master
+ * seed by run number, and one stream per ant, split from the run's
+ * stream in ant order. Each stream is used by one thread only, so
+ * no random state is shared between threads, and a run can be
+ * replayed exactly from the recorded master seed, whether or not
+ * the colony is constructed in parallel.
+ *
+ * There is no default stream: code that draws random numbers
+ * is always given the stream to draw from.
+ *
+ * @author cl-simons
+ */
+
+import java.util.SplittableRandom;
+
+public class RandomStream
+{
+    /** the underlying generator */
+    private final SplittableRandom random;
+
+    /**
+     * constructor
+     * @param seed
+     */
+    public RandomStream( long seed )
+    {
+        this.random = new SplittableRandom( seed );
+    }
+
+    /**
+     * constructor, for a stream split from another
+     * @param random
+     */
+    private RandomStream( SplittableRandom random )
+    {
+        assert random != null;
+        this.random = random;
+    }
+
+    /**
+     * Create the stream for a run. The stream depends only on the
+     * master seed and the run number, so runs can be replayed
+     * individually, and in any order.
+     * @param masterSeed
+     * @param runNumber, from zero
+     * @return the stream of the run
+     */
+    public static RandomStream forRun( long masterSeed, int runNumber )
+    {
+        assert runNumber >= 0;
+
+        SplittableRandom master = new SplittableRandom( masterSeed );
+        SplittableRandom run = master.split( );
+
+        for( int i = 0; i < runNumber; i++ )
+        {
+            run = master.split( );
+        }
+
+        return new RandomStream( run );
+    }
+
+    /**
+     * Create the stream for generating a problem instance, such as
+     * the randomised design problem. It depends only on the master
+     * seed, and is seeded differently from the run streams, so that
+     * the two never coincide.
+     * @param masterSeed
+     * @return the stream of the problem instance
+     */
+    public static RandomStream forProblem( long masterSeed )
+    {
+        return new RandomStream( ~masterSeed );
+    }
+
+    /**
+     * split off a new, independent stream, e.g. for an ant
+     * @return the new stream
+     */
+    public RandomStream split( )
+    {
+        return new RandomStream( this.random.split( ) );
+    }
+
+    /** get random integer in integer range
+     *  Same arithmetic as Utility.getRandomInRange( int, int )
+     *  @param lower bound as integer
+     *  @param upper bound as integer
+     *  @return a random integer in stated range
+     */
+    public int getRandomInRange( int lowerBound, int upperBound )
+    {
+        return (int) ( Math.floor( this.random.nextDouble( ) *
+                    ( upperBound - lowerBound + 1 ) ) + lowerBound );
+    }
+
+    /** get random double in double range
+     *  Same arithmetic as Utility.getRandomInRange( double, double )
+     *  @param lower bound as double
+     *  @param upper bound as double
+     *  @return a random double in stated range
+     */
+    public double getRandomInRange( double lowerBound, double upperBound )
+    {
+        assert lowerBound >= 0.0;
+        assert upperBound >= 0.0;
+
+        double result = 0.0;
+
+        if( lowerBound == 0.0 && upperBound == 0.0 )
+        {
+            result = 0.0;
+        }
+        else
+        {
+            assert upperBound > lowerBound :
+                "Upper bound is: " + upperBound +
+                " lower bound is: " + lowerBound;
+            double range = upperBound - lowerBound;
+
+            // nextDouble returns a pseudorandom double value
+            // in the range 0.0 to 1.0
+            result = ( this.random.nextDouble( ) * range ) + lowerBound;
+        }
+        return result;
+    }
+
+    /**
+     * @return a pseudorandom Gaussian value, mean 0.0 and standard deviation 1.0
+     */
+    public double nextGaussian( )
+    {
+        // Box-Muller (polar) method, as in java.util.Random
+        double v1, v2, s;
+        do
+        {
+            v1 = 2.0 * this.random.nextDouble( ) - 1.0;
+            v2 = 2.0 * this.random.nextDouble( ) - 1.0;
+            s = v1 * v1 + v2 * v2;
+        }
+        while( s >= 1.0 || s == 0.0 );
+
+        return v1 * Math.sqrt( -2.0 * Math.log( s ) / s );
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
@@ -0,0 +1,141 @@
+/*
+ * RankSelector.java
+ * 17 October 2026
+ */
+
+package myUtils;
+
+/**
+ * Selects the k lowest and the k highest of a sequence of values,
+ * e.g. the fitness values of the paths of a colony, in one pass
+ * and without sorting the sequence.
+ *
+ * The values are offered in index order, and the selection is exactly
+ * that of a stable ascending sort: the lowest are the first k of the
+ * sorted sequence, where equal values keep their index order, and the
+ * highest are the last k, taken from the end backwards.
+ *
+ * @author cl-simons
+ */
+
+public class RankSelector
+{
+    /** number of lowest and of highest values selected */
+    private final int k;
+
+    /** the lowest values so far, and their indices, lowest first */
+    private final double[ ] lowestValues;
+    private final int[ ] lowestIndices;
+    private int numberOfLowest;
+
+    /** the highest values so far, and their indices, highest first */
+    private final double[ ] highestValues;
+    private final int[ ] highestIndices;
+    private int numberOfHighest;
+
+    /**
+     * constructor
+     * @param k - number of lowest and of highest values to select
+     */
+    public RankSelector( int k )
+    {
+        assert k > 0;
+        this.k = k;
+        this.lowestValues = new double[ k ];
+        this.lowestIndices = new int[ k ];
+        this.highestValues = new double[ k ];
+        this.highestIndices = new int[ k ];
+        clear( );
+    }
+
+    /**
+     * forget all values offered, ready for a new sequence
+     */
+    public void clear( )
+    {
+        this.numberOfLowest = 0;
+        this.numberOfHighest = 0;
+    }
+
+    /**
+     * offer the next value of the sequence, in O(k)
+     * @param index of the value, above that of every value offered before
+     * @param value
+     */
+    public void offer( int index, double value )
+    {
+        // lowest: a later equal value sorts after, so goes after any equal values
+        if( this.numberOfLowest < this.k || value < this.lowestValues[ this.numberOfLowest - 1 ] )
+        {
+            int position = Math.min( this.numberOfLowest, this.k - 1 );
+
+            while( position > 0 && this.lowestValues[ position - 1 ] > value )
+            {
+                this.lowestValues[ position ] = this.lowestValues[ position - 1 ];
+                this.lowestIndices[ position ] = this.lowestIndices[ position - 1 ];
+                position--;
+            }
+
+            this.lowestValues[ position ] = value;
+            this.lowestIndices[ position ] = index;
+
+            if( this.numberOfLowest < this.k )
+            {
+                this.numberOfLowest++;
+            }
+        }
+
+        // highest: a later equal value sorts after, so is nearer the end
+        // of the sorted sequence, and goes before any equal values
+        if( this.numberOfHighest < this.k || value >= this.highestValues[ this.numberOfHighest - 1 ] )
+        {
+            int position = Math.min( this.numberOfHighest, this.k - 1 );
+
+            while( position > 0 && this.highestValues[ position - 1 ] <= value )
+            {
+                this.highestValues[ position ] = this.highestValues[ position - 1 ];
+                this.highestIndices[ position ] = this.highestIndices[ position - 1 ];
+                position--;
+            }
+
+            this.highestValues[ position ] = value;
+            this.highestIndices[ position ] = index;
+
+            if( this.numberOfHighest < this.k )
+            {
+                this.numberOfHighest++;
+            }
+        }
+    }
+
+    /**
+     * @return number of lowest (and of highest) values selected so far
+     */
+    public int size( )
+    {
+        return this.numberOfLowest;
+    }
+
+    /**
+     * @param rank - zero for the lowest value, one for the second lowest, ...
+     * @return index of the value
+     */
+    public int getLowest( int rank )
+    {
+        assert rank >= 0 && rank < this.numberOfLowest : "rank is: " + rank;
+        return this.lowestIndices[ rank ];
+    }
+
+    /**
+     * @param rank - zero for the highest value, one for the second highest, ...
+     * @return index of the value
+     */
+    public int getHighest( int rank )
+    {
+        assert rank >= 0 && rank < this.numberOfHighest : "rank is: " + rank;
+        return this.highestIndices[ rank ];
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
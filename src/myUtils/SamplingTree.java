@@ -0,0 +1,180 @@
+/*
+ * SamplingTree.java
+ * 17 October 2026
+ */
+
+package myUtils;
+
+/**
+ * A Fenwick (binary indexed) tree over non-negative weights, for
+ * roulette wheel selection. Building the tree is O(n), and then
+ * a weighted draw, or a change to a single weight, is O(log n).
+ *
+ * A draw selects position j with probability weight( j ) / total( ),
+ * exactly as a linear roulette wheel does, and never selects
+ * a position of zero weight.
+ *
+ * @author cl-simons
+ */
+
+public class SamplingTree
+{
+    /** the weights, by position */
+    private final double[ ] weights;
+
+    /** the tree of partial sums, indexed from one */
+    private final double[ ] tree;
+
+    /** the highest power of two not above the number of positions */
+    private final int topStep;
+
+    /**
+     * constructor, with all weights zero
+     * @param size - number of positions
+     */
+    public SamplingTree( int size )
+    {
+        assert size > 0;
+        this.weights = new double[ size ];
+        this.tree = new double[ size + 1 ];
+        this.topStep = Integer.highestOneBit( size );
+    }
+
+    /**
+     * @return number of positions
+     */
+    public int size( )
+    {
+        return this.weights.length;
+    }
+
+    /**
+     * Rebuild the tree from a run of weights, in O(n)
+     * @param source of the weights
+     * @param offset of the first weight in the source
+     */
+    public void build( double[ ] source, int offset )
+    {
+        final int size = this.weights.length;
+        assert offset >= 0 && offset + size <= source.length;
+
+        System.arraycopy( source, offset, this.weights, 0, size );
+
+        for( int i = 1; i <= size; i++ )
+        {
+            this.tree[ i ] = this.weights[ i - 1 ];
+        }
+
+        for( int i = 1; i <= size; i++ )
+        {
+            final int parent = i + ( i & -i );
+            if( parent <= size )
+            {
+                this.tree[ parent ] += this.tree[ i ];
+            }
+        }
+    }
+
+    /**
+     * @param position
+     * @return the weight at the position
+     */
+    public double getWeight( int position )
+    {
+        return this.weights[ position ];
+    }
+
+    /**
+     * change the weight at one position, in O(log n)
+     * @param position
+     * @param weight, not negative
+     */
+    public void setWeight( int position, double weight )
+    {
+        assert weight >= 0.0 : "weight is: " + weight;
+
+        final double delta = weight - this.weights[ position ];
+        this.weights[ position ] = weight;
+
+        for( int i = position + 1; i < this.tree.length; i += ( i & -i ) )
+        {
+            this.tree[ i ] += delta;
+        }
+    }
+
+    /**
+     * multiply every weight by the same factor, in O(n)
+     * @param factor, not negative
+     */
+    public void scale( double factor )
+    {
+        assert factor >= 0.0;
+
+        for( int i = 0; i < this.weights.length; i++ )
+        {
+            this.weights[ i ] *= factor;
+        }
+
+        // the partial sums are linear in the weights
+        for( int i = 1; i < this.tree.length; i++ )
+        {
+            this.tree[ i ] *= factor;
+        }
+    }
+
+    /**
+     * @return the sum of all weights, in O(log n)
+     */
+    public double total( )
+    {
+        double sum = 0.0;
+
+        for( int i = this.weights.length; i > 0; i -= ( i & -i ) )
+        {
+            sum += this.tree[ i ];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Select the position at which the running total of
+     * the weights first exceeds the given value, in O(log n).
+     * @param random - a value in the range 0.0 (inclusive) to total( ) (exclusive)
+     * @return the selected position
+     */
+    public int sample( double random )
+    {
+        assert random >= 0.0;
+
+        final int size = this.weights.length;
+        double remaining = random;
+        int position = 0;
+
+        for( int step = this.topStep; step > 0; step >>= 1 )
+        {
+            final int next = position + step;
+
+            if( next <= size && this.tree[ next ] <= remaining )
+            {
+                position = next;
+                remaining -= this.tree[ next ];
+            }
+        }
+
+        // rounding may carry a value at the very top of the range past the end
+        if( position >= size )
+        {
+            position = size - 1;
+            while( position > 0 && this.weights[ position ] == 0.0 )
+            {
+                position--;
+            }
+        }
+
+        return position;
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
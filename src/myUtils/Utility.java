@@ -31,46 +31,31 @@ public class Utility
     
     /** get random integer in integer range 
      *  Taken from the Thomas Wu book, page 354
+     *  17 October 2026, drawn from the given random stream
+     *  @param random stream to draw from
      *  @param lower bound as integer
      *  @param upper bound as integer
      *  @return a random integer in stated range 
      */
-    public static int getRandomInRange( int lowerBound, int upperBound )
+    public static int getRandomInRange( RandomStream random, int lowerBound, int upperBound )
     {
-        return (int) ( Math.floor( Math.random( ) * 
-                    ( upperBound - lowerBound + 1 ) ) + lowerBound );
+        assert random != null;
+        return random.getRandomInRange( lowerBound, upperBound );
     }
     
      
     /** get random double in double range 
      *  Taken from the above
+     *  17 October 2026, drawn from the given random stream
+     *  @param random stream to draw from
      *  @param lower bound as double
      *  @param upper bound as double
      *  @return a random double in stated range 
      */
-    public static double getRandomInRange( double lowerBound, double upperBound )
+    public static double getRandomInRange( RandomStream random, double lowerBound, double upperBound )
     {
-        assert lowerBound >= 0.0;
-        assert upperBound >= 0.0;
-        
-        double result = 0.0;
-        
-        if( lowerBound == 0.0 && upperBound == 0.0 )
-        {
-            result = 0.0;
-        }
-        else
-        {
-            assert upperBound > lowerBound :
-                "Upper bound is: " + upperBound +
-                " lower bound is: " + lowerBound;
-            double range = upperBound - lowerBound;
-
-            // Math.random returns a pseaudorandom double value 
-            // in the range 0.0 to 1.0
-            result = ( Math.random( ) * range ) + lowerBound;
-        }
-        return result;
+        assert random != null;
+        return random.getRandomInRange( lowerBound, upperBound );
     }
 
     
@@ -0,0 +1,128 @@
+/*
+ * WorkerPool.java
+ * 17 October 2026
+ */
+
+package myUtils;
+
+/**
+ * A bounded pool of worker threads which shares out a range of
+ * indices (e.g. the ants of a colony) among its workers. Each worker
+ * is handed one contiguous block of indices, so that callers writing
+ * into preallocated slots obtain results which do not depend
+ * on thread scheduling.
+ * @author cl-simons
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class WorkerPool
+{
+    /**
+     * the work to be performed for a contiguous block of indices
+     */
+    public interface BlockTask
+    {
+        /**
+         * @param from first index of the block (inclusive)
+         * @param to last index of the block (exclusive)
+         */
+        void run( int from, int to );
+    }
+
+    /** the underlying pool; its worker threads are daemon threads */
+    private final ForkJoinPool pool;
+
+    /** the number of workers sharing out the work */
+    private final int numberOfWorkers;
+
+    /**
+     * constructor
+     * @param numberOfWorkers, at least one
+     */
+    public WorkerPool( int numberOfWorkers )
+    {
+        assert numberOfWorkers > 0 : "number of workers is: " + numberOfWorkers;
+        this.numberOfWorkers = numberOfWorkers;
+        this.pool = new ForkJoinPool( numberOfWorkers );
+    }
+
+    /**
+     * @return the number of workers in the pool
+     */
+    public int size( )
+    {
+        return this.numberOfWorkers;
+    }
+
+    /**
+     * Split the indices 0 ... count - 1 into contiguous blocks, one
+     * per worker, and run the task on every block. Returns when all
+     * blocks are done. Any exception or assertion failure raised
+     * by a worker is rethrown in the calling thread.
+     * @param count number of indices to share out
+     * @param task the work for each block
+     */
+    public void forEachBlock( int count, BlockTask task )
+    {
+        assert count >= 0;
+        assert task != null;
+
+        final int blocks = Math.min( count, this.numberOfWorkers );
+        List< Callable< Void > > callables = new ArrayList< >( blocks );
+
+        for( int b = 0; b < blocks; b++ )
+        {
+            final int from = (int) ( (long) count * b / blocks );
+            final int to = (int) ( (long) count * ( b + 1 ) / blocks );
+
+            callables.add( ( ) -> { task.run( from, to ); return null; } );
+        }
+
+        List< Future< Void > > futures = this.pool.invokeAll( callables );
+
+        for( Future< Void > future : futures )
+        {
+            try
+            {
+                future.get( );
+            }
+            catch( InterruptedException ex )
+            {
+                Thread.currentThread( ).interrupt( );
+                throw new IllegalStateException( "interrupted while waiting for workers", ex );
+            }
+            catch( ExecutionException ex )
+            {
+                Throwable cause = ex.getCause( );
+                if( cause instanceof RuntimeException )
+                {
+                    throw (RuntimeException) cause;
+                }
+                else if( cause instanceof Error )
+                {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException( cause );
+            }
+        }
+    }
+
+    /**
+     * Release the worker threads of the pool once the work already
+     * shared out is done; the pool takes no further work.
+     * 17 October 2026
+     */
+    public void shutdown( )
+    {
+        this.pool.shutdown( );
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
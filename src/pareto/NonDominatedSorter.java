@@ -0,0 +1,485 @@
+/*
+ * NonDominatedSorter.java
+ * 17 October 2026
+ */
+
+package pareto;
+
+/**
+ * Sorts a set of solutions into fronts of non-domination, and
+ * calculates the crowding distance of each solution within its front.
+ *
+ * Every objective is minimised, as are CBO, NAC and ATMR. The objective
+ * values are held in primitive arrays, objectives[ m ][ i ] being the
+ * value of objective m for solution i.
+ *
+ * The solutions are first sorted lexicographically, so that no solution
+ * can dominate one before it. Each solution in turn is then placed in the
+ * first front with no member dominating it, found by binary search
+ * (efficient non-dominated sort). With two objectives, e.g. CBO and NAC,
+ * the last member placed in a front has the least second objective of the
+ * front, so only that member need be compared (a sweep line), and the sort
+ * takes O(n log n); with more objectives, the members of a front are
+ * compared from the last placed backwards.
+ *
+ * The sorter keeps its arrays from one sort to the next, so is reused
+ * from one iteration to the next.
+ *
+ * @author cl-simons
+ */
+
+public class NonDominatedSorter
+{
+    /** number of solutions sorted */
+    private int size;
+
+    /** number of fronts found */
+    private int numberOfFronts;
+
+    /** the front rank of each solution, zero for the non-dominated */
+    private int[ ] ranks;
+
+    /** the crowding distance of each solution */
+    private double[ ] crowdingDistances;
+
+    /** the solutions, in sorted order */
+    private int[ ] order;
+
+    /** scratch for the merge sort */
+    private int[ ] scratch;
+
+    /** for each solution, the member placed before it in its front, or -1 */
+    private int[ ] previousInFront;
+
+    /** the member of each front placed last */
+    private int[ ] lastInFront;
+
+    /** the solutions, front by front */
+    private int[ ] frontMembers;
+
+    /** the position in frontMembers of the first of each front, and the end of the last */
+    private int[ ] frontStart;
+
+    /** Fenwick tree, for counting dominators */
+    private int[ ] tree;
+
+    /**
+     * constructor, for an empty sorter
+     */
+    public NonDominatedSorter( )
+    {
+        this.size = 0;
+        this.numberOfFronts = 0;
+        ensureCapacity( 16 );
+    }
+
+    /**
+     * Sort solutions into fronts, and calculate their crowding distances
+     * @param objectives - objectives[ m ][ i ] is objective m of solution i
+     */
+    public void sort( double[ ][ ] objectives )
+    {
+        assert objectives != null;
+        assert objectives.length > 0;
+
+        final int n = objectives[ 0 ].length;
+        for( int m = 1; m < objectives.length; m++ )
+        {
+            assert objectives[ m ].length == n;
+        }
+
+        ensureCapacity( n );
+        this.size = n;
+        this.numberOfFronts = 0;
+
+        sortLexicographically( objectives, n );
+
+        for( int k = 0; k < n; k++ )
+        {
+            final int p = this.order[ k ];
+
+            // the first front with no member dominating p
+            int low = 0;
+            int high = this.numberOfFronts;
+            while( low < high )
+            {
+                final int middle = ( low + high ) >>> 1;
+                if( frontDominates( objectives, middle, p ) )
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+
+            if( low == this.numberOfFronts )
+            {
+                this.lastInFront[ low ] = -1;
+                this.numberOfFronts++;
+            }
+
+            this.ranks[ p ] = low;
+            this.previousInFront[ p ] = this.lastInFront[ low ];
+            this.lastInFront[ low ] = p;
+        }
+
+        groupByFront( n );
+        calculateCrowdingDistances( objectives );
+    }
+
+    /**
+     * @return number of solutions sorted
+     */
+    public int size( )
+    {
+        return this.size;
+    }
+
+    /**
+     * @return number of fronts found
+     */
+    public int getNumberOfFronts( )
+    {
+        return this.numberOfFronts;
+    }
+
+    /**
+     * @param solution
+     * @return front rank of the solution, zero if non-dominated
+     */
+    public int getRank( int solution )
+    {
+        assert solution >= 0 && solution < this.size : "solution is: " + solution;
+        return this.ranks[ solution ];
+    }
+
+    /**
+     * @param solution
+     * @return crowding distance of the solution within its front,
+     * infinite at either end of the front
+     */
+    public double getCrowdingDistance( int solution )
+    {
+        assert solution >= 0 && solution < this.size : "solution is: " + solution;
+        return this.crowdingDistances[ solution ];
+    }
+
+    /**
+     * @param front rank
+     * @return number of solutions in the front
+     */
+    public int getFrontSize( int front )
+    {
+        assert front >= 0 && front < this.numberOfFronts : "front is: " + front;
+        return this.frontStart[ front + 1 ] - this.frontStart[ front ];
+    }
+
+    /**
+     * @param front rank
+     * @param position within the front
+     * @return the solution, the members of a front being in lexicographic order
+     */
+    public int getFrontMember( int front, int position )
+    {
+        assert position >= 0 && position < getFrontSize( front ) : "position is: " + position;
+        return this.frontMembers[ this.frontStart[ front ] + position ];
+    }
+
+    /**
+     * Count, for each of a set of solutions of two objectives, the number
+     * of solutions dominating it, in O(n log n); as the pairwise domination
+     * tournament of calculateDominationCount2( ) in ParetoOperators.
+     * Front ranks and crowding distances are not calculated.
+     * @param first objective of each solution
+     * @param second objective of each solution
+     * @param counts, to receive the number of dominators of each solution
+     */
+    public void countDominators( double[ ] first, double[ ] second, int[ ] counts )
+    {
+        assert first != null && second != null && counts != null;
+        assert first.length == second.length;
+        assert counts.length >= first.length;
+
+        final int n = first.length;
+        final double[ ][ ] objectives = { second };
+
+        ensureCapacity( n );
+        this.size = 0;
+        this.numberOfFronts = 0;
+
+        // the rank of each solution's second objective, equal values sharing a rank,
+        // held in ranks[ ] for now; from one, for the Fenwick tree
+        sortLexicographically( objectives, n );
+        int rank = 0;
+        for( int k = 0; k < n; k++ )
+        {
+            if( k == 0 || second[ this.order[ k ] ] != second[ this.order[ k - 1 ] ] )
+            {
+                rank++;
+            }
+            this.ranks[ this.order[ k ] ] = rank;
+        }
+        final int numberOfRanks = rank;
+
+        for( int r = 1; r <= numberOfRanks; r++ )
+        {
+            this.tree[ r ] = 0;
+        }
+
+        // sweep in lexicographic order: those before a solution, apart from
+        // those equal to it, have no greater first objective, so it is
+        // dominated by those of them with no greater second objective
+        sortLexicographically( new double[ ][ ] { first, second }, n );
+        int k = 0;
+        while( k < n )
+        {
+            final int p = this.order[ k ];
+            int end = k + 1;
+            while( end < n &&
+                first[ this.order[ end ] ] == first[ p ] &&
+                second[ this.order[ end ] ] == second[ p ] )
+            {
+                end++;
+            }
+
+            int dominators = 0;
+            for( int r = this.ranks[ p ]; r > 0; r -= r & -r )
+            {
+                dominators += this.tree[ r ];
+            }
+
+            for( int e = k; e < end; e++ )
+            {
+                counts[ this.order[ e ] ] = dominators;
+            }
+
+            for( int r = this.ranks[ p ]; r <= numberOfRanks; r += r & -r )
+            {
+                this.tree[ r ] += end - k;
+            }
+
+            k = end;
+        }
+    }
+
+    /**
+     * @param objectives
+     * @param front rank
+     * @param p, a solution after every member of the front in lexicographic order
+     * @return true if some member of the front dominates p
+     */
+    private boolean frontDominates( double[ ][ ] objectives, int front, int p )
+    {
+        // with two objectives, the last member has the least second objective
+        if( objectives.length == 2 )
+        {
+            return dominates( objectives, this.lastInFront[ front ], p );
+        }
+
+        for( int q = this.lastInFront[ front ]; q >= 0; q = this.previousInFront[ q ] )
+        {
+            if( dominates( objectives, q, p ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param objectives
+     * @param q, a solution before p in lexicographic order
+     * @param p
+     * @return true if q dominates p
+     */
+    private static boolean dominates( double[ ][ ] objectives, int q, int p )
+    {
+        boolean better = false;
+
+        for( int m = 0; m < objectives.length; m++ )
+        {
+            final double valueQ = objectives[ m ][ q ];
+            final double valueP = objectives[ m ][ p ];
+
+            if( valueQ > valueP )
+            {
+                return false;
+            }
+            if( valueQ < valueP )
+            {
+                better = true;
+            }
+        }
+        return better;
+    }
+
+    /**
+     * list the solutions front by front, keeping lexicographic order within a front
+     * @param n - number of solutions
+     */
+    private void groupByFront( int n )
+    {
+        for( int f = 0; f <= this.numberOfFronts; f++ )
+        {
+            this.frontStart[ f ] = 0;
+        }
+        for( int i = 0; i < n; i++ )
+        {
+            this.frontStart[ this.ranks[ i ] + 1 ]++;
+        }
+        for( int f = 0; f < this.numberOfFronts; f++ )
+        {
+            this.frontStart[ f + 1 ] += this.frontStart[ f ];
+        }
+
+        // lastInFront[ ] now serves as the next position in each front
+        for( int f = 0; f < this.numberOfFronts; f++ )
+        {
+            this.lastInFront[ f ] = this.frontStart[ f ];
+        }
+        for( int k = 0; k < n; k++ )
+        {
+            final int p = this.order[ k ];
+            this.frontMembers[ this.lastInFront[ this.ranks[ p ] ] ] = p;
+            this.lastInFront[ this.ranks[ p ] ]++;
+        }
+    }
+
+    /**
+     * the crowding distance of each solution within its front, i.e. the sum
+     * over the objectives of the normalised distance between its neighbours
+     * @param objectives
+     */
+    private void calculateCrowdingDistances( double[ ][ ] objectives )
+    {
+        for( int f = 0; f < this.numberOfFronts; f++ )
+        {
+            final int start = this.frontStart[ f ];
+            final int end = this.frontStart[ f + 1 ];
+
+            for( int k = start; k < end; k++ )
+            {
+                this.crowdingDistances[ this.frontMembers[ k ] ] = 0.0;
+            }
+
+            for( int m = 0; m < objectives.length; m++ )
+            {
+                final double[ ] values = objectives[ m ];
+
+                System.arraycopy( this.frontMembers, start, this.order, start, end - start );
+                mergeSort( values, start, end );
+
+                final double least = values[ this.order[ start ] ];
+                final double greatest = values[ this.order[ end - 1 ] ];
+
+                this.crowdingDistances[ this.order[ start ] ] = Double.POSITIVE_INFINITY;
+                this.crowdingDistances[ this.order[ end - 1 ] ] = Double.POSITIVE_INFINITY;
+
+                if( greatest > least )
+                {
+                    for( int k = start + 1; k < end - 1; k++ )
+                    {
+                        this.crowdingDistances[ this.order[ k ] ] +=
+                            ( values[ this.order[ k + 1 ] ] - values[ this.order[ k - 1 ] ] ) /
+                            ( greatest - least );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * sort the solutions lexicographically by objective into order[ ],
+     * equal solutions keeping their index order
+     * @param objectives
+     * @param n - number of solutions
+     */
+    private void sortLexicographically( double[ ][ ] objectives, int n )
+    {
+        for( int i = 0; i < n; i++ )
+        {
+            this.order[ i ] = i;
+        }
+
+        // least significant objective first, each pass being stable
+        for( int m = objectives.length - 1; m >= 0; m-- )
+        {
+            mergeSort( objectives[ m ], 0, n );
+        }
+    }
+
+    /**
+     * a stable merge sort of order[ from ... to - 1 ] by value, bottom up
+     * @param values
+     * @param from
+     * @param to
+     */
+    private void mergeSort( double[ ] values, int from, int to )
+    {
+        int[ ] source = this.order;
+        int[ ] target = this.scratch;
+
+        for( int width = 1; width < to - from; width *= 2 )
+        {
+            for( int left = from; left < to; left += 2 * width )
+            {
+                final int middle = Math.min( left + width, to );
+                final int right = Math.min( left + 2 * width, to );
+                int i = left;
+                int j = middle;
+
+                for( int k = left; k < right; k++ )
+                {
+                    if( i < middle && ( j >= right || values[ source[ i ] ] <= values[ source[ j ] ] ) )
+                    {
+                        target[ k ] = source[ i ];
+                        i++;
+                    }
+                    else
+                    {
+                        target[ k ] = source[ j ];
+                        j++;
+                    }
+                }
+            }
+
+            final int[ ] temp = source;
+            source = target;
+            target = temp;
+        }
+
+        if( source != this.order )
+        {
+            System.arraycopy( source, from, this.order, from, to - from );
+        }
+    }
+
+    /**
+     * grow the arrays, if need be, to hold n solutions
+     * @param n
+     */
+    private void ensureCapacity( int n )
+    {
+        if( this.ranks != null && this.ranks.length >= n )
+        {
+            return;
+        }
+
+        final int capacity = Math.max( n, this.ranks == null ? 0 : 2 * this.ranks.length );
+
+        this.ranks = new int[ capacity ];
+        this.crowdingDistances = new double[ capacity ];
+        this.order = new int[ capacity ];
+        this.scratch = new int[ capacity ];
+        this.previousInFront = new int[ capacity ];
+        this.lastInFront = new int[ capacity + 1 ];
+        this.frontMembers = new int[ capacity ];
+        this.frontStart = new int[ capacity + 1 ];
+        this.tree = new int[ capacity + 1 ];
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
@@ -0,0 +1,920 @@
+/*
+ * ParetoArchive.java
+ * 17 October 2026
+ */
+
+package pareto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A bounded archive of the non-dominated solutions found over a run,
+ * e.g. the trade-off front of CBO and NAC. Every objective is minimised.
+ *
+ * A solution is offered by its objective values. It is admitted unless a
+ * solution in the archive dominates or equals it, and on admission any
+ * solution it dominates is removed. When the archive is over capacity,
+ * the solution in the most crowded region is removed, the solutions at
+ * either end of the front being kept.
+ *
+ * With two objectives, the archive is a tree map ordered by the first
+ * objective, so the second decreases along the map; a solution is then
+ * checked against its predecessor only, and admitted in O(log n) plus
+ * O(log n) for each solution it removes. The crowding of each solution,
+ * the distance between its neighbours scaled by the reference point,
+ * is kept in a tree set, and the hypervolume dominated up to the reference
+ * point is kept up to date with each admission and removal.
+ *
+ * With more objectives, the archive is a dominance tree (ND-tree): each
+ * node bounds its solutions by their ideal and nadir points, so that
+ * whole subtrees are passed over, or found to dominate or be dominated,
+ * without comparing their solutions. Crowding distances are then those of
+ * the NonDominatedSorter, and the hypervolume is calculated, by slicing,
+ * when first asked for after a change.
+ *
+ * @author cl-simons
+ */
+
+public class ParetoArchive
+{
+    /** maximum number of solutions in a leaf of the dominance tree */
+    private static final int MAXIMUM_LEAF_SIZE = 20;
+
+    /** number of objectives */
+    private final int numberOfObjectives;
+
+    /** maximum number of solutions held */
+    private final int capacity;
+
+    /** the reference point, worse than every solution of interest */
+    private final double[ ] referencePoint;
+
+    /** number of solutions held */
+    private int size;
+
+    /** the hypervolume of the solutions held */
+    private double hypervolume;
+
+    /** true if the hypervolume is up to date */
+    private boolean hypervolumeKnown;
+
+    /** for two objectives, the solutions, by first objective */
+    private final TreeMap< Double, Solution > front;
+
+    /** for two objectives, the solutions, most crowded first */
+    private final TreeSet< Solution > crowding;
+
+    /** number of solutions admitted, to break ties of crowding */
+    private long serialNumber;
+
+    /** for more objectives, the root of the dominance tree, or null if empty */
+    private Node root;
+
+    /** for more objectives, to find the most crowded solution */
+    private final NonDominatedSorter sorter;
+
+    /**
+     * constructor, for an empty archive
+     * @param numberOfObjectives - at least two
+     * @param capacity - maximum number of solutions held, at least two
+     * @param referencePoint - for the hypervolume, one value per objective
+     */
+    public ParetoArchive( int numberOfObjectives, int capacity, double[ ] referencePoint )
+    {
+        assert numberOfObjectives >= 2 && numberOfObjectives < MAXIMUM_LEAF_SIZE;
+        assert capacity >= 2;
+        assert referencePoint != null && referencePoint.length == numberOfObjectives;
+
+        this.numberOfObjectives = numberOfObjectives;
+        this.capacity = capacity;
+        this.referencePoint = referencePoint.clone( );
+
+        this.front = new TreeMap< >( );
+        this.crowding = new TreeSet< >( ( a, b ) ->
+            a.crowding != b.crowding ?
+                Double.compare( a.crowding, b.crowding ) :
+                Long.compare( a.serialNumber, b.serialNumber ) );
+        this.sorter = new NonDominatedSorter( );
+
+        clear( );
+    }
+
+    /**
+     * remove every solution
+     */
+    public void clear( )
+    {
+        this.front.clear( );
+        this.crowding.clear( );
+        this.root = null;
+        this.size = 0;
+        this.serialNumber = 0;
+        this.hypervolume = 0.0;
+        this.hypervolumeKnown = true;
+    }
+
+    /**
+     * Offer a solution to the archive
+     * @param objectives of the solution, copied if admitted
+     * @return true if the solution was admitted
+     */
+    public boolean offer( double[ ] objectives )
+    {
+        assert objectives != null && objectives.length == this.numberOfObjectives;
+
+        if( this.numberOfObjectives == 2 )
+        {
+            return offerToFront( objectives );
+        }
+        else
+        {
+            return offerToTree( objectives );
+        }
+    }
+
+    /**
+     * @return number of solutions held
+     */
+    public int size( )
+    {
+        return this.size;
+    }
+
+    /**
+     * @return number of objectives
+     */
+    public int getNumberOfObjectives( )
+    {
+        return this.numberOfObjectives;
+    }
+
+    /**
+     * @return the hypervolume dominated by the solutions held,
+     * bounded by the reference point
+     */
+    public double getHypervolume( )
+    {
+        if( this.hypervolumeKnown == false )
+        {
+            List< double[ ] > points = getSolutions( );
+            this.hypervolume = hypervolume(
+                points.toArray( new double[ points.size( ) ][ ] ),
+                this.numberOfObjectives );
+            this.hypervolumeKnown = true;
+        }
+        return this.hypervolume;
+    }
+
+    /**
+     * @return a copy of the objective values of each solution held;
+     * with two objectives, in order of the first objective
+     */
+    public List< double[ ] > getSolutions( )
+    {
+        List< double[ ] > result = new ArrayList< >( this.size );
+
+        if( this.numberOfObjectives == 2 )
+        {
+            for( Solution s : this.front.values( ) )
+            {
+                result.add( s.objectives.clone( ) );
+            }
+        }
+        else if( this.root != null )
+        {
+            collect( this.root, result );
+            for( int i = 0; i < result.size( ); i++ )
+            {
+                result.set( i, result.get( i ).clone( ) );
+            }
+        }
+
+        assert result.size( ) == this.size;
+        return result;
+    }
+
+    //------- two objectives ------------------------------------------------
+
+    /**
+     * @param objectives
+     * @return true if admitted
+     */
+    private boolean offerToFront( double[ ] objectives )
+    {
+        final double x = objectives[ 0 ];
+        final double y = objectives[ 1 ];
+
+        // the predecessor has the least second objective of those
+        // with no greater first objective
+        final Map.Entry< Double, Solution > floor = this.front.floorEntry( x );
+        if( floor != null && floor.getValue( ).objectives[ 1 ] <= y )
+        {
+            return false; // dominated, or equal
+        }
+
+        // remove the successors dominated
+        Map.Entry< Double, Solution > ceiling = this.front.ceilingEntry( x );
+        while( ceiling != null && ceiling.getValue( ).objectives[ 1 ] >= y )
+        {
+            removeFromFront( ceiling.getValue( ) );
+            ceiling = this.front.ceilingEntry( x );
+        }
+
+        Solution solution = new Solution( objectives.clone( ), this.serialNumber++ );
+        addToFront( solution );
+
+        if( this.size > this.capacity )
+        {
+            // the least crowding is the most crowded; the ends are never taken
+            removeFromFront( this.crowding.first( ) );
+        }
+
+        return true;
+    }
+
+    /**
+     * add a solution to the front, dominating none of it
+     * @param solution
+     */
+    private void addToFront( Solution solution )
+    {
+        final Solution previous = neighbour( solution, false );
+        final Solution next = neighbour( solution, true );
+
+        // the previous solution's slice now ends at this one
+        if( previous != null )
+        {
+            this.hypervolume -= slice( previous, next );
+            this.hypervolume += slice( previous, solution );
+        }
+        this.hypervolume += slice( solution, next );
+
+        this.front.put( solution.objectives[ 0 ], solution );
+        this.size++;
+
+        updateCrowding( solution );
+        updateCrowding( previous );
+        updateCrowding( next );
+    }
+
+    /**
+     * remove a solution from the front
+     * @param solution
+     */
+    private void removeFromFront( Solution solution )
+    {
+        final Solution previous = neighbour( solution, false );
+        final Solution next = neighbour( solution, true );
+
+        this.hypervolume -= slice( solution, next );
+        if( previous != null )
+        {
+            this.hypervolume -= slice( previous, solution );
+            this.hypervolume += slice( previous, next );
+        }
+
+        this.crowding.remove( solution );
+        this.front.remove( solution.objectives[ 0 ] );
+        this.size--;
+
+        updateCrowding( previous );
+        updateCrowding( next );
+    }
+
+    /**
+     * @param solution
+     * @param after - true for the next solution, false for the previous
+     * @return the neighbour of the solution in the front, or null
+     */
+    private Solution neighbour( Solution solution, boolean after )
+    {
+        final Map.Entry< Double, Solution > entry = after ?
+            this.front.higherEntry( solution.objectives[ 0 ] ) :
+            this.front.lowerEntry( solution.objectives[ 0 ] );
+
+        return entry == null ? null : entry.getValue( );
+    }
+
+    /**
+     * the hypervolume dominated by a solution and not by the one before
+     * it, i.e. the slice from it to the next, bounded by the reference point
+     * @param solution
+     * @param next solution, or null if none
+     * @return the hypervolume of the slice
+     */
+    private double slice( Solution solution, Solution next )
+    {
+        final double right = Math.min(
+            next == null ? this.referencePoint[ 0 ] : next.objectives[ 0 ],
+            this.referencePoint[ 0 ] );
+        final double width = right - Math.min( solution.objectives[ 0 ], this.referencePoint[ 0 ] );
+        final double height = Math.max( this.referencePoint[ 1 ] - solution.objectives[ 1 ], 0.0 );
+
+        return width * height;
+    }
+
+    /**
+     * recalculate the crowding of a solution of the front from its neighbours
+     * @param solution, or null for none
+     */
+    private void updateCrowding( Solution solution )
+    {
+        if( solution == null )
+        {
+            return;
+        }
+
+        this.crowding.remove( solution );
+
+        final Solution previous = neighbour( solution, false );
+        final Solution next = neighbour( solution, true );
+
+        if( previous == null || next == null )
+        {
+            solution.crowding = Double.POSITIVE_INFINITY;
+        }
+        else
+        {
+            solution.crowding =
+                ( next.objectives[ 0 ] - previous.objectives[ 0 ] ) / this.referencePoint[ 0 ] +
+                ( previous.objectives[ 1 ] - next.objectives[ 1 ] ) / this.referencePoint[ 1 ];
+        }
+
+        this.crowding.add( solution );
+    }
+
+    //------- more objectives -----------------------------------------------
+
+    /**
+     * @param objectives
+     * @return true if admitted
+     */
+    private boolean offerToTree( double[ ] objectives )
+    {
+        if( this.root != null )
+        {
+            if( isDominated( this.root, objectives ) )
+            {
+                return false; // dominated, or equal
+            }
+
+            if( removeDominated( this.root, objectives ) )
+            {
+                this.root = null;
+            }
+        }
+
+        final double[ ] point = objectives.clone( );
+
+        if( this.root == null )
+        {
+            this.root = new Node( point );
+        }
+        else
+        {
+            insert( this.root, point );
+        }
+        this.size++;
+        this.hypervolumeKnown = false;
+
+        if( this.size > this.capacity )
+        {
+            removeMostCrowded( );
+        }
+
+        return true;
+    }
+
+    /**
+     * @param node
+     * @param point
+     * @return true if some solution of the node dominates or equals the point
+     */
+    private boolean isDominated( Node node, double[ ] point )
+    {
+        if( weaklyDominates( node.ideal, point ) == false )
+        {
+            return false; // no solution of the node can dominate the point
+        }
+        if( weaklyDominates( node.nadir, point ) )
+        {
+            return true; // every solution of the node dominates the point
+        }
+
+        if( node.points != null )
+        {
+            for( double[ ] q : node.points )
+            {
+                if( weaklyDominates( q, point ) )
+                {
+                    return true;
+                }
+            }
+        }
+        else
+        {
+            for( Node child : node.children )
+            {
+                if( isDominated( child, point ) )
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * remove the solutions of a node dominated by a point,
+     * which no solution of the node dominates or equals
+     * @param node
+     * @param point
+     * @return true if the node is left empty
+     */
+    private boolean removeDominated( Node node, double[ ] point )
+    {
+        if( weaklyDominates( point, node.nadir ) == false )
+        {
+            return false; // the point can dominate no solution of the node
+        }
+        if( weaklyDominates( point, node.ideal ) )
+        {
+            this.size -= count( node ); // the point dominates every solution of the node
+            return true;
+        }
+
+        if( node.points != null )
+        {
+            for( int i = node.points.size( ) - 1; i >= 0; i-- )
+            {
+                if( weaklyDominates( point, node.points.get( i ) ) )
+                {
+                    node.points.remove( i );
+                    this.size--;
+                }
+            }
+            return node.points.isEmpty( );
+        }
+        else
+        {
+            for( int i = node.children.size( ) - 1; i >= 0; i-- )
+            {
+                if( removeDominated( node.children.get( i ), point ) )
+                {
+                    node.children.remove( i );
+                }
+            }
+            return node.children.isEmpty( );
+        }
+    }
+
+    /**
+     * insert a point into the subtree of a node,
+     * descending to the nearest leaf
+     * @param node
+     * @param point
+     */
+    private void insert( Node node, double[ ] point )
+    {
+        node.include( point );
+
+        if( node.points == null )
+        {
+            Node nearest = null;
+            double nearestDistance = Double.POSITIVE_INFINITY;
+
+            for( Node child : node.children )
+            {
+                final double distance = child.distanceToMiddle( point );
+                if( distance < nearestDistance )
+                {
+                    nearest = child;
+                    nearestDistance = distance;
+                }
+            }
+            insert( nearest, point );
+        }
+        else
+        {
+            node.points.add( point );
+            if( node.points.size( ) > MAXIMUM_LEAF_SIZE )
+            {
+                split( node );
+            }
+        }
+    }
+
+    /**
+     * split a leaf into one child for each of the objectives, plus one,
+     * seeded by solutions far apart
+     * @param leaf
+     */
+    private void split( Node leaf )
+    {
+        final List< double[ ] > points = leaf.points;
+        final int numberOfChildren = this.numberOfObjectives + 1;
+
+        // the first seed, the solution furthest on average from the others
+        int first = 0;
+        double furthest = -1.0;
+        for( int i = 0; i < points.size( ); i++ )
+        {
+            double total = 0.0;
+            for( double[ ] q : points )
+            {
+                total += distance( points.get( i ), q );
+            }
+            if( total > furthest )
+            {
+                first = i;
+                furthest = total;
+            }
+        }
+
+        List< Node > children = new ArrayList< >( numberOfChildren );
+        children.add( new Node( points.get( first ) ) );
+        boolean[ ] seeded = new boolean[ points.size( ) ];
+        seeded[ first ] = true;
+
+        // then each further seed, the solution furthest from its nearest seed
+        while( children.size( ) < numberOfChildren )
+        {
+            int next = -1;
+            furthest = -1.0;
+            for( int i = 0; i < points.size( ); i++ )
+            {
+                if( seeded[ i ] == false )
+                {
+                    final double nearest = nearestSeedDistance( children, points.get( i ) );
+                    if( nearest > furthest )
+                    {
+                        next = i;
+                        furthest = nearest;
+                    }
+                }
+            }
+            children.add( new Node( points.get( next ) ) );
+            seeded[ next ] = true;
+        }
+
+        // the rest go to the nearest child
+        for( int i = 0; i < points.size( ); i++ )
+        {
+            if( seeded[ i ] == false )
+            {
+                Node nearest = null;
+                double nearestDistance = Double.POSITIVE_INFINITY;
+
+                for( Node child : children )
+                {
+                    final double distance = child.distanceToMiddle( points.get( i ) );
+                    if( distance < nearestDistance )
+                    {
+                        nearest = child;
+                        nearestDistance = distance;
+                    }
+                }
+                nearest.include( points.get( i ) );
+                nearest.points.add( points.get( i ) );
+            }
+        }
+
+        leaf.points = null;
+        leaf.children = children;
+    }
+
+    /**
+     * remove the solution of least crowding distance, i.e. the most crowded
+     */
+    private void removeMostCrowded( )
+    {
+        List< double[ ] > points = new ArrayList< >( this.size );
+        collect( this.root, points );
+
+        double[ ][ ] objectives = new double[ this.numberOfObjectives ][ points.size( ) ];
+        for( int i = 0; i < points.size( ); i++ )
+        {
+            for( int m = 0; m < this.numberOfObjectives; m++ )
+            {
+                objectives[ m ][ i ] = points.get( i )[ m ];
+            }
+        }
+
+        // the archive is non-dominated, so is a single front
+        this.sorter.sort( objectives );
+        assert this.sorter.getNumberOfFronts( ) == 1;
+
+        int mostCrowded = 0;
+        for( int i = 1; i < points.size( ); i++ )
+        {
+            if( this.sorter.getCrowdingDistance( i ) < this.sorter.getCrowdingDistance( mostCrowded ) )
+            {
+                mostCrowded = i;
+            }
+        }
+
+        if( remove( this.root, points.get( mostCrowded ) ) )
+        {
+            this.root = null;
+        }
+        this.size--;
+    }
+
+    /**
+     * remove a solution, by identity, from the subtree of a node
+     * @param node
+     * @param point, a solution of the archive
+     * @return true if the node is left empty
+     */
+    private boolean remove( Node node, double[ ] point )
+    {
+        if( node.points != null )
+        {
+            for( int i = 0; i < node.points.size( ); i++ )
+            {
+                if( node.points.get( i ) == point )
+                {
+                    node.points.remove( i );
+                    break;
+                }
+            }
+            return node.points.isEmpty( );
+        }
+
+        for( int i = 0; i < node.children.size( ); i++ )
+        {
+            Node child = node.children.get( i );
+            if( child.bounds( point ) && contains( child, point ) )
+            {
+                if( remove( child, point ) )
+                {
+                    node.children.remove( i );
+                }
+                break;
+            }
+        }
+        return node.children.isEmpty( );
+    }
+
+    /**
+     * @param node
+     * @param point
+     * @return true if the subtree of the node holds the solution, by identity
+     */
+    private boolean contains( Node node, double[ ] point )
+    {
+        if( node.points != null )
+        {
+            for( double[ ] q : node.points )
+            {
+                if( q == point )
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for( Node child : node.children )
+        {
+            if( child.bounds( point ) && contains( child, point ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param node
+     * @param result, to receive the solutions of the subtree of the node
+     */
+    private static void collect( Node node, List< double[ ] > result )
+    {
+        if( node.points != null )
+        {
+            result.addAll( node.points );
+        }
+        else
+        {
+            for( Node child : node.children )
+            {
+                collect( child, result );
+            }
+        }
+    }
+
+    /**
+     * @param node
+     * @return number of solutions in the subtree of the node
+     */
+    private static int count( Node node )
+    {
+        if( node.points != null )
+        {
+            return node.points.size( );
+        }
+
+        int total = 0;
+        for( Node child : node.children )
+        {
+            total += count( child );
+        }
+        return total;
+    }
+
+    /**
+     * @param children
+     * @param point
+     * @return distance from the point to the nearest seed of the children
+     */
+    private static double nearestSeedDistance( List< Node > children, double[ ] point )
+    {
+        double nearest = Double.POSITIVE_INFINITY;
+        for( Node child : children )
+        {
+            nearest = Math.min( nearest, distance( child.points.get( 0 ), point ) );
+        }
+        return nearest;
+    }
+
+    /**
+     * the hypervolume of a set of points, up to the reference point, by slicing
+     * along the last of the objectives considered
+     * @param points
+     * @param dimensions - number of objectives considered, the first ones
+     * @return the hypervolume
+     */
+    private double hypervolume( double[ ][ ] points, int dimensions )
+    {
+        if( points.length == 0 )
+        {
+            return 0.0;
+        }
+
+        final int last = dimensions - 1;
+
+        if( dimensions == 1 )
+        {
+            double least = this.referencePoint[ 0 ];
+            for( double[ ] p : points )
+            {
+                least = Math.min( least, p[ 0 ] );
+            }
+            return this.referencePoint[ 0 ] - least;
+        }
+
+        double[ ][ ] sorted = points.clone( );
+        Arrays.sort( sorted, ( a, b ) -> Double.compare( a[ last ], b[ last ] ) );
+
+        double volume = 0.0;
+        for( int i = 0; i < sorted.length; i++ )
+        {
+            final double bottom = Math.min( sorted[ i ][ last ], this.referencePoint[ last ] );
+            final double top = ( i + 1 < sorted.length ) ?
+                Math.min( sorted[ i + 1 ][ last ], this.referencePoint[ last ] ) :
+                this.referencePoint[ last ];
+
+            if( top > bottom )
+            {
+                // the points at or below the slice, in the remaining objectives
+                volume += ( top - bottom ) *
+                    hypervolume( Arrays.copyOf( sorted, i + 1 ), dimensions - 1 );
+            }
+        }
+        return volume;
+    }
+
+    /**
+     * @param a
+     * @param b
+     * @return true if a is no worse than b in every objective
+     */
+    private static boolean weaklyDominates( double[ ] a, double[ ] b )
+    {
+        for( int m = 0; m < a.length; m++ )
+        {
+            if( a[ m ] > b[ m ] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param a
+     * @param b
+     * @return euclidean distance between a and b
+     */
+    private static double distance( double[ ] a, double[ ] b )
+    {
+        double total = 0.0;
+        for( int m = 0; m < a.length; m++ )
+        {
+            total += ( a[ m ] - b[ m ] ) * ( a[ m ] - b[ m ] );
+        }
+        return Math.sqrt( total );
+    }
+
+    /**
+     * a solution of a two objective archive
+     */
+    private static class Solution
+    {
+        /** the objective values */
+        final double[ ] objectives;
+
+        /** order of admission */
+        final long serialNumber;
+
+        /** the distance between its neighbours, infinite at either end */
+        double crowding;
+
+        Solution( double[ ] objectives, long serialNumber )
+        {
+            this.objectives = objectives;
+            this.serialNumber = serialNumber;
+            this.crowding = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * a node of the dominance tree, either a leaf of solutions or a
+     * node of children; the ideal and nadir points bound the solutions
+     * of the subtree, and as they are not narrowed on removal, may bound
+     * more widely than the solutions left
+     */
+    private static class Node
+    {
+        /** the least of each objective */
+        final double[ ] ideal;
+
+        /** the greatest of each objective */
+        final double[ ] nadir;
+
+        /** the solutions of a leaf, otherwise null */
+        List< double[ ] > points;
+
+        /** the children of a node, otherwise null */
+        List< Node > children;
+
+        /**
+         * constructor, for a leaf of one solution
+         * @param point
+         */
+        Node( double[ ] point )
+        {
+            this.ideal = point.clone( );
+            this.nadir = point.clone( );
+            this.points = new ArrayList< >( );
+            this.points.add( point );
+            this.children = null;
+        }
+
+        /**
+         * widen the bounds to include a point
+         * @param point
+         */
+        void include( double[ ] point )
+        {
+            for( int m = 0; m < point.length; m++ )
+            {
+                this.ideal[ m ] = Math.min( this.ideal[ m ], point[ m ] );
+                this.nadir[ m ] = Math.max( this.nadir[ m ], point[ m ] );
+            }
+        }
+
+        /**
+         * @param point
+         * @return true if the point lies within the bounds
+         */
+        boolean bounds( double[ ] point )
+        {
+            return weaklyDominates( this.ideal, point ) && weaklyDominates( point, this.nadir );
+        }
+
+        /**
+         * @param point
+         * @return distance from the point to the middle of the bounds
+         */
+        double distanceToMiddle( double[ ] point )
+        {
+            double total = 0.0;
+            for( int m = 0; m < point.length; m++ )
+            {
+                final double d = point[ m ] - ( this.ideal[ m ] + this.nadir[ m ] ) * 0.5;
+                total += d * d;
+            }
+            return Math.sqrt( total );
+        }
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
@@ -222,7 +222,10 @@ public class ParetoOperators
     
     /**
      * calculate the domination count for each ant 
-     * (design solution) in the colony
+     * (design solution) in the colony, i.e. the number of
+     * solutions dominating it for CBO and NAC.
+     * 17 October 2026: counted by a sweep in O(n log n),
+     * rather than by a pairwise domination tournament
      * @param colony 
      */
     public static void calculateDominationCount2( List< Path > colony )
@@ -230,90 +233,62 @@ public class ParetoOperators
         assert colony != null;
         
         final int size = colony.size( );
-        Iterator< Path > outer = colony.iterator( );
+        double[ ] CBOs = new double[ size ];
+        double[ ] NACs = new double[ size ];
+        int[ ] counts = new int[ size ];
         
-        while( outer.hasNext( ) )
+        for( int i = 0; i < size; i++ )
         {
-            Path outerLoopPath = outer.next( );
-//            System.out.println( "domination count before is: " + outerLoopPath.getDominationCount( ) );
-            
-            
-            assert outerLoopPath.getDominationCount( ) == 0 :
-                "domination count is: " + outerLoopPath.getDominationCount( ) ;
+            Path p = colony.get( i );
             
-            final double outerCBO = outerLoopPath.getCBO( );
-            final double outerNAC = outerLoopPath.getEleganceNAC( );
+            assert p.getDominationCount( ) == 0 :
+                "domination count is: " + p.getDominationCount( ) ;
             
-            Iterator< Path > inner = colony.iterator( );
+            CBOs[ i ] = p.getCBO( );
+            NACs[ i ] = p.getEleganceNAC( );
+        }
+        
+        new NonDominatedSorter( ).countDominators( CBOs, NACs, counts );
+        
+        for( int i = 0; i < size; i++ )
+        {
+            assert counts[ i ] < size :
+                "domination count is: " + counts[ i ] ;
             
-            while( inner.hasNext( ) )
-            {
-                Path innerLoopPath = inner.next( );
-                
-                performDominationTournament( 
-                    outerLoopPath, outerCBO, outerNAC, innerLoopPath );
-            }
-//            System.out.println( "domination count after is: " + outerLoopPath.getDominationCount( ) );
-            assert outerLoopPath.getDominationCount( ) < size :
-                "domination count is: " + outerLoopPath.getDominationCount( ) ;
+            colony.get( i ).setDominationCount( counts[ i ] );
         }
     }
     
     /**
-     * perform pareto-based domination tournament
-     * @param outer loop solution path
-     * @param inner loop solution path
+     * 17 October 2026
+     * sort the colony into fronts of non-domination for CBO and NAC,
+     * and optionally ATMR; the front rank and crowding distance of
+     * each path are then found from the sorter by its colony index
+     * @param colony
+     * @param sorter
+     * @param includeATMR - true to include ATMR as a third objective
      */
-    private static void performDominationTournament( 
-        Path outer, double outerCBO, double outerNAC, Path inner )
+    public static void sortIntoFronts( 
+        List< Path > colony, NonDominatedSorter sorter, boolean includeATMR )
     {
-//        final double outerCBO = outer.getCBO( );
-//        final double outerNAC = outer.getEleganceNAC( );
-//        final double outerATMR = outer.getEleganceATMR( );
+        assert colony != null;
+        assert sorter != null;
         
-        final double innerCBO = inner.getCBO( );
-        final double innerNAC = inner.getEleganceNAC( );
-//        final double innerATMR = inner.getEleganceATMR( );
-
-        boolean outerCBOWorse = false;
-        boolean outerCBOEqual = false;
-        boolean outerNACWorse = false;
-        boolean outerNACEqual = false;
-//        boolean outerATMRBetter = false;
-//        boolean outerATMREqual = false;
-//        
-        if( outerCBO > innerCBO ) { outerCBOWorse= true; }
-        if( outerCBO == innerCBO ) { outerCBOEqual = true; }
-        if( outerNAC > innerNAC ) { outerNACWorse= true; }
-        if( outerNAC == innerNAC ) { outerNACEqual = true; }
-//        if( outerATMR < innerATMR ) { outerATMRBetter = true; }
-//        if( outerATMR == innerATMR ) { outerATMREqual = true; }
-        
-        if( outerCBOWorse && outerNACWorse /* && outerATMRBetter */ )
-        {
-            outer.incrementDominationCount( );
-        }
-//        else if ( outerCBOBetter && outerNACBetter /* && outerATMREqual */ )
-//        {
-//            inner.incrementDominationCount( );
-//        }
-        else if ( outerCBOWorse && outerNACEqual /* && outerATMREqual */ )
-        {
-            outer.incrementDominationCount( );
-        }
-//        else if( outerCBOEqual && outerNACBetter /* && outerATMRBetter */ )
-//        {
-//            inner.incrementDominationCount( );
-//        }
-        else if ( outerCBOEqual && outerNACWorse  /* && outerATMREqual */ )
+        final int size = colony.size( );
+        double[ ][ ] objectives = new double[ includeATMR ? 3 : 2 ][ size ];
+        
+        for( int i = 0; i < size; i++ )
         {
-            outer.incrementDominationCount( );
+            Path p = colony.get( i );
+            objectives[ 0 ][ i ] = p.getCBO( );
+            objectives[ 1 ][ i ] = p.getEleganceNAC( );
+            if( includeATMR )
+            {
+                objectives[ 2 ][ i ] = p.getEleganceATMR( );
+            }
         }
-//        else if ( outerCBOEqual && outerNACEqual /* && outerATMREqual */ )
-//        {
-//            inner.incrementDominationCount( );
-//        }
         
+        sorter.sort( objectives );
     }
     
     /**
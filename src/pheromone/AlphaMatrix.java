@@ -5,6 +5,9 @@
 
 package pheromone;
 
+import config.AlgorithmParameters;
+import myUtils.SamplingTree;
+
 /**
  *
  * @author cl-simons
@@ -16,32 +19,426 @@ public class AlphaMatrix
     /**
      * 'x' coordinate is 'from'
      * 'y' coordinate is 'to'
+     * 17 October 2026, held row by row in one array, in 
+     * the same layout as the pheromone matrix
      */
-    private double[ ][ ] alphaMatrix; 
+    private final double[ ] alphaMatrix; 
+    
+    /** the layout of the cells, shared with the pheromone matrix */
+    private final MatrixLayout layout;
     
     /** size of both 'x' and 'y' dimensions of table */
     private final int size;
     
+    /** the exponent applied to each pheromone value 17 October 2026 */
+    private final double alpha;
+    
+    /** 
+     * static heuristic information, eta to the power of beta, applied 
+     * to each cell, in the same layout, or null if none 17 October 2026
+     */
+    private final double[ ] heuristicMatrix;
+    
+    /** 
+     * for weighted draws, a sampling tree over each row ('from'),
+     * or null if tree sampling is not in use 17 October 2026
+     */
+    private SamplingTree[ ] rowTrees;
+    
+    /** the rows changed while catching up, if tree sampling is in use */
+    private boolean[ ] rowChanged;
+    
+    /** one row, gathered from a symmetric layout to build its tree */
+    private double[ ] rowBuffer;
+    
+    /** true if uniform evaporation of the pheromone is lazy 17 October 2026 */
+    private final boolean lazy;
+    
+    /** 
+     * when lazy, the product of the scalings not yet applied to the 
+     * cells, or to the sampling trees, whose weights need only be in 
+     * proportion; otherwise always 1.0 17 October 2026
+     */
+    private double decay;
+    
+    /** 
+     * the number of uniform scalings followed by scaling the cells, 
+     * after which every cell is recalculated from the pheromone matrix
+     * 17 October 2026
+     */
+    private static final int RECALCULATION_INTERVAL = 32;
+    
+    /** the uniform scalings followed since every cell was last recalculated */
+    private int scalingsSinceRecalculation;
+    
     
     public AlphaMatrix( PheromoneMatrix pm, double alpha )
+    {
+        this( pm, alpha, null );
+    }
+    
+    /**
+     * constructor. The matrix persists from one iteration to the
+     * next, following the pheromone matrix by catchUp( ).
+     * 17 October 2026
+     * @param pm - the pheromone matrix
+     * @param alpha
+     * @param heuristicMatrix - eta to the power of beta, or null if none
+     */
+    public AlphaMatrix( PheromoneMatrix pm, double alpha, double[ ][ ] heuristicMatrix )
+    {
+        this( pm, alpha, heuristicMatrix, AlgorithmParameters.treeSampling );
+    }
+    
+    /**
+     * constructor, as above
+     * 17 October 2026
+     * @param pm - the pheromone matrix
+     * @param alpha
+     * @param heuristicMatrix - eta to the power of beta, or null if none
+     * @param treeSampling - true to keep a sampling tree for each row
+     */
+    public AlphaMatrix( 
+        PheromoneMatrix pm, double alpha, double[ ][ ] heuristicMatrix, boolean treeSampling )
     {
         assert pm != null;
         assert alpha >= 0.0;
         assert alpha < 10.0; // some arbitrary upper bound
         size = pm.size( );
         assert size > 0 : "invalid pheromone matrix";
+        assert heuristicMatrix == null || heuristicMatrix.length == size;
+        
+        this.alpha = alpha;
+        this.layout = pm.getLayout( );
+        this.lazy = pm.isLazy( );
+        this.heuristicMatrix = ( heuristicMatrix == null ) ? null : gather( heuristicMatrix );
+        
+        alphaMatrix = new double[ layout.numberOfCells( ) ];
+        recalculateAll( pm );
+        
+        rowTrees = null;
+        if( treeSampling == true )
+        {
+            buildRowTrees( pm );
+        }
+        
+        pm.clearChanges( );
+    }
+    
+    /**
+     * Bring the matrix up to date with the pheromone matrix, recalculating
+     * only the cells changed since last caught up. A uniform scaling of 
+     * the pheromone, as in uniform evaporation, is followed by scaling 
+     * every cell by the same factor to the power of alpha, with no 
+     * call to Math.pow( ) per cell, or when evaporation is lazy, by
+     * a single change to the decay.
+     * 
+     * Scaling is not exact: each cell then differs from the value 
+     * recalculated from the pheromone matrix by a rounding error of
+     * an ulp or two per scaling. So that the error cannot accumulate,
+     * every cell is recalculated after RECALCULATION_INTERVAL scalings, 
+     * bounding the relative error of any cell to about 1.0E-14.
+     * 17 October 2026
+     * @param pm - the pheromone matrix, as given to the constructor
+     */
+    public void catchUp( PheromoneMatrix pm )
+    {
+        assert pm != null;
+        assert pm.size( ) == size : "invalid pheromone matrix";
+        
+        if( pm.isAllChanged( ) || 
+            ( pm.getPendingScale( ) != 1.0 && 
+              scalingsSinceRecalculation + 1 >= RECALCULATION_INTERVAL ) )
+        {
+            recalculateAll( pm );
+            
+            if( rowTrees != null )
+            {
+                buildRowTrees( pm );
+            }
+        }
+        else
+        {
+            final double scale = pm.getPendingScale( );
+            
+            if( scale != 1.0 )
+            {
+                final double alphaScale = power( scale, alpha );
+                scalingsSinceRecalculation++;
+                
+                if( lazy )
+                {
+                    // in O(1), as for the pheromone matrix
+                    decay *= alphaScale;
+                    
+                    if( decay < PheromoneMatrix.LOWEST_DECAY )
+                    {
+                        materialise( pm );
+                    }
+                }
+                else
+                {
+                    scaleCells( pm, alphaScale );
+                }
+            }
+            
+            final int numberOfChanges = pm.getNumberOfChanges( );
+            
+            for( int k = 0; k < numberOfChanges; k++ )
+            {
+                final int cell = pm.getChangedCell( k );
+                final int i = cell / size;
+                final int j = cell % size;
+                
+                alphaMatrix[ layout.index( i, j ) ] = calculate( pm, i, j ) / decay;
+                
+                if( rowTrees != null )
+                {
+                    // in a symmetric layout, the cell is in both rows
+                    rowChanged[ i ] = true;
+                    rowChanged[ j ] |= layout.isSymmetric( );
+                }
+            }
+            
+            if( rowTrees != null )
+            {
+                // rebuilt rather than updated by SamplingTree.setWeight( ),
+                // so that no rounding error can accumulate in the partial
+                // sums, and a cell of zero is never drawn
+                pm.inStripes( size, ( from, to ) -> 
+                {
+                    final double[ ] buffer = rowBuffer( from, to );
+                    
+                    for( int i = from; i < to; i++ )
+                    {
+                        if( rowChanged[ i ] )
+                        {
+                            buildRowTree( i, buffer );
+                            rowChanged[ i ] = false;
+                        }
+                    }
+                } );
+            }
+        }
+        
+        pm.clearChanges( );
+    }
+    
+    /**
+     * recalculate every cell, in one pass over the pheromone 
+     * matrix's flat backing store
+     * 17 October 2026
+     * @param pm - the pheromone matrix
+     */
+    private void recalculateAll( PheromoneMatrix pm )
+    {
+        final double[ ] cells = pm.getCells( );
+        assert cells.length == alphaMatrix.length;
+        decay = 1.0;
+        scalingsSinceRecalculation = 0;
         
-        alphaMatrix = new double[ size ][ size ];
+        // in stripes of cells, when the update is parallel
+        pm.inStripes( cells.length, ( from, to ) -> 
+        {
+            for( int k = from; k < to; k++ )
+            {
+                alphaMatrix[ k ] = power( cells[ k ], alpha );
+            }
+            
+            if( heuristicMatrix != null )
+            {
+                for( int k = from; k < to; k++ )
+                {
+                    alphaMatrix[ k ] *= heuristicMatrix[ k ];
+                }
+            }
+        } );
+    }
+    
+    /**
+     * multiply every cell, and the sampling trees, by the same factor
+     * 17 October 2026
+     * @param pm - the pheromone matrix, which shares out the work
+     * @param factor, not negative
+     */
+    private void scaleCells( PheromoneMatrix pm, double factor )
+    {
+        pm.inStripes( alphaMatrix.length, ( from, to ) -> 
+        {
+            for( int k = from; k < to; k++ )
+            {
+                alphaMatrix[ k ] *= factor;
+            }
+        } );
+        
+        if( rowTrees != null )
+        {
+            pm.inStripes( size, ( from, to ) -> 
+            {
+                for( int i = from; i < to; i++ )
+                {
+                    rowTrees[ i ].scale( factor );
+                }
+            } );
+        }
+    }
+    
+    /**
+     * apply any lazy decay not yet applied to the cells
+     * 17 October 2026
+     * @param pm - the pheromone matrix, which shares out the work
+     */
+    private void materialise( PheromoneMatrix pm )
+    {
+        scaleCells( pm, decay );
+        decay = 1.0;
+    }
+    
+    /**
+     * copy a full square matrix into the layout of this matrix
+     * 17 October 2026
+     * @param matrix, indexed [ x ][ y ]
+     * @return the cells, in the layout
+     */
+    private double[ ] gather( double[ ][ ] matrix )
+    {
+        final double[ ] result = new double[ layout.numberOfCells( ) ];
         
         for( int i = 0; i < size; i++ )
+        {
+            for( int j = layout.firstColumn( i ); j < size; j++ )
+            {
+                assert layout.isSymmetric( ) == false || matrix[ i ][ j ] == matrix[ j ][ i ];
+                result[ layout.index( i, j ) ] = matrix[ i ][ j ];
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * calculate the value of one cell from the pheromone matrix
+     * 17 October 2026
+     * @param pm - the pheromone matrix
+     * @param i - 'from'
+     * @param j - 'to'
+     * @return pheromone to the power of alpha, times any heuristic information
+     */
+    private double calculate( PheromoneMatrix pm, int i, int j )
+    {
+        double result = power( pm.getProbabilityAt( i, j ), alpha );
+        
+        if( heuristicMatrix != null )
+        {
+            result *= heuristicMatrix[ layout.index( i, j ) ];
+        }
+        
+        return result;
+    }
+    
+    /**
+     * x to the power of alpha, avoiding Math.pow( ) where the result
+     * is exactly the same, i.e. for alpha of one and two; other short 
+     * cuts, such as x * Math.sqrt( x ) for 1.5, round differently
+     * 17 October 2026
+     * @param x, not negative
+     * @param alpha
+     * @return x to the power of alpha
+     */
+    private static double power( double x, double alpha )
+    {
+        if( alpha == 1.0 )
+        {
+            return x;
+        }
+        else if( alpha == 2.0 )
+        {
+            return x * x;
+        }
+        else
+        {
+            return Math.pow( x, alpha );
+        }
+    }
+    
+    /**
+     * build a sampling tree over every row, in O(size * size)
+     * 17 October 2026
+     * @param pm - the pheromone matrix, which shares out the work
+     */
+    private void buildRowTrees( PheromoneMatrix pm )
+    {
+        if( rowTrees == null )
+        {
+            rowTrees = new SamplingTree[ size ];
+            rowChanged = new boolean[ size ];
+            rowBuffer = new double[ size ];
+            
+            for( int i = 0; i < size; i++ )
+            {
+                rowTrees[ i ] = new SamplingTree( size );
+            }
+        }
+        
+        pm.inStripes( size, ( from, to ) -> 
+        {
+            final double[ ] buffer = rowBuffer( from, to );
+            
+            for( int i = from; i < to; i++ )
+            {
+                buildRowTree( i, buffer );
+            }
+        } );
+    }
+    
+    /**
+     * @param from first row of a stripe
+     * @param to last row of the stripe (exclusive)
+     * @return a buffer for gathering rows of the stripe
+     */
+    private double[ ] rowBuffer( int from, int to )
+    {
+        // a stripe of all the rows is built in one thread
+        return ( from == 0 && to == size ) ? rowBuffer : new double[ size ];
+    }
+    
+    /**
+     * build the sampling tree over one row, in O(size)
+     * 17 October 2026
+     * @param i - the 'from' node
+     * @param buffer, for gathering a row of a symmetric layout
+     */
+    private void buildRowTree( int i, double[ ] buffer )
+    {
+        if( layout.isSymmetric( ) )
         {
             for( int j = 0; j < size; j++ )
             {
-                double temp = pm.getProbabilityAt( i, j );
-                
-                alphaMatrix[ i ][ j ] = Math.pow( temp, alpha );
+                buffer[ j ] = alphaMatrix[ layout.index( i, j ) ];
             }
+            rowTrees[ i ].build( buffer, 0 );
         }
+        else
+        {
+            // the row is already contiguous
+            rowTrees[ i ].build( alphaMatrix, layout.index( i, 0 ) );
+        }
+    }
+    
+    /**
+     * The sampling tree over a row, from which any number of ants
+     * may draw concurrently, as drawing does not change the tree.
+     * The weights are in proportion to the row, but when evaporation
+     * is lazy, not necessarily equal to it.
+     * 17 October 2026
+     * @param i - the 'from' node
+     * @return the tree for the row, or null if tree sampling is not in use
+     */
+    public SamplingTree getRowTree( int i )
+    {
+        assert i >= 0 && i < size : "invalid pheromone table index i " + i;
+        
+        return ( rowTrees == null ) ? null : rowTrees[ i ];
     }
 
     public double getProbabilityAt( int i, int j )
@@ -52,7 +449,7 @@ public class AlphaMatrix
         assert j >= 0 : "invalid low pheromone table index j " + i;
         assert j < size: "invalid high pheromone table index j " + i;
         
-        return alphaMatrix[ i ][ j ];
+        return alphaMatrix[ layout.index( i, j ) ] * decay;
     }
     
 }   // end class
@@ -0,0 +1,143 @@
+/*
+ * EdgeSet.java
+ * 17 October 2026
+ */
+
+package pheromone;
+
+import engine.Path;
+import java.util.Arrays;
+
+/**
+ * A set of the (undirected) edges of one or more paths, e.g. the best
+ * paths of an iteration, held as one bit per edge of the upper triangle
+ * of the matrix. The edges added are also listed, so that the set is
+ * cleared, and compared with another, in time proportional to the
+ * number of edges added, rather than to the size of the matrix.
+ * The set is reused from one iteration to the next.
+ *
+ * @author cl-simons
+ */
+
+public class EdgeSet
+{
+    /** the position of the bit of each edge */
+    private final MatrixLayout layout;
+
+    /** the bits, 64 to a word */
+    private final long[ ] bits;
+
+    /** the positions of the edges in the set, in order of addition */
+    private int[ ] edges;
+
+    /** number of edges in the set */
+    private int numberOfEdges;
+
+    /**
+     * constructor, for an empty set
+     * @param size - number of nodes
+     */
+    public EdgeSet( int size )
+    {
+        assert size > 0;
+        this.layout = new MatrixLayout( size, true );
+        this.bits = new long[ ( layout.numberOfCells( ) + 63 ) / 64 ];
+        this.edges = new int[ size ];
+        this.numberOfEdges = 0;
+    }
+
+    /**
+     * remove every edge, in O(number of edges)
+     */
+    public void clear( )
+    {
+        for( int k = 0; k < numberOfEdges; k++ )
+        {
+            bits[ edges[ k ] >>> 6 ] = 0L;
+        }
+        numberOfEdges = 0;
+    }
+
+    /**
+     * add an edge, either way round
+     * @param from node number
+     * @param to node number
+     */
+    public void add( int from, int to )
+    {
+        final int position = layout.index( from, to );
+        final long bit = 1L << position;
+
+        if( ( bits[ position >>> 6 ] & bit ) == 0L )
+        {
+            bits[ position >>> 6 ] |= bit;
+
+            if( numberOfEdges == edges.length )
+            {
+                edges = Arrays.copyOf( edges, 2 * numberOfEdges );
+            }
+            edges[ numberOfEdges ] = position;
+            numberOfEdges++;
+        }
+    }
+
+    /**
+     * add the edges between consecutive nodes of a path
+     * @param path
+     */
+    public void addPath( Path path )
+    {
+        assert path != null;
+
+        final int[ ] ids = path.getIds( );
+        for( int i = 1; i < path.size( ); i++ )
+        {
+            add( ids[ i - 1 ], ids[ i ] );
+        }
+    }
+
+    /**
+     * @param from node number
+     * @param to node number
+     * @return true if the edge is in the set, either way round
+     */
+    public boolean contains( int from, int to )
+    {
+        final int position = layout.index( from, to );
+        return ( bits[ position >>> 6 ] & ( 1L << position ) ) != 0L;
+    }
+
+    /**
+     * @return number of edges in the set
+     */
+    public int size( )
+    {
+        return numberOfEdges;
+    }
+
+    /**
+     * count the edges in both this set and another,
+     * in O(number of edges in this set)
+     * @param other, a set over the same number of nodes
+     * @return number of edges in common
+     */
+    public int countShared( EdgeSet other )
+    {
+        assert other != null;
+        assert other.layout.size( ) == this.layout.size( );
+
+        int count = 0;
+        for( int k = 0; k < numberOfEdges; k++ )
+        {
+            final int position = edges[ k ];
+            if( ( other.bits[ position >>> 6 ] & ( 1L << position ) ) != 0L )
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
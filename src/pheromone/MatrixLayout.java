@@ -0,0 +1,121 @@
+/*
+ * MatrixLayout.java
+ * 17 October 2026
+ */
+
+package pheromone;
+
+/**
+ * The layout of a square matrix held row by row in one array.
+ *
+ * A full layout holds every cell, the cell at x, y being at
+ * ( x * size ) + y. A symmetric layout, for matrices where x, y
+ * and y, x always hold the same value (as for the edges of a TSP
+ * tour), holds only the upper triangle and the diagonal, in
+ * size * ( size + 1 ) / 2 cells, and both x, y and y, x are at
+ * the same position.
+ *
+ * @author cl-simons
+ */
+
+public class MatrixLayout
+{
+    /** size of both 'x' and 'y' dimensions of the matrix */
+    private final int size;
+
+    /** true if only the upper triangle is held */
+    private final boolean symmetric;
+
+    /** position of each row, less the position of its first column */
+    private final int[ ] rowStart;
+
+    /** number of cells held */
+    private final int numberOfCells;
+
+    /**
+     * constructor
+     * @param size of both dimensions
+     * @param symmetric - true to hold only the upper triangle
+     */
+    public MatrixLayout( int size, boolean symmetric )
+    {
+        assert size > 0;
+        this.size = size;
+        this.symmetric = symmetric;
+        this.rowStart = new int[ size ];
+
+        int position = 0;
+        for( int x = 0; x < size; x++ )
+        {
+            if( symmetric )
+            {
+                // row x holds columns x ... size - 1
+                this.rowStart[ x ] = position - x;
+                position += size - x;
+            }
+            else
+            {
+                this.rowStart[ x ] = position;
+                position += size;
+            }
+        }
+
+        this.numberOfCells = position;
+    }
+
+    /**
+     * @param x - 'from'
+     * @param y - 'to'
+     * @return position of the cell at x, y
+     */
+    public int index( int x, int y )
+    {
+        assert x >= 0 && x < size : "x is: " + x + ", and y is: " + y;
+        assert y >= 0 && y < size : "x is: " + x + ", and y is: " + y;
+
+        if( symmetric && x > y )
+        {
+            return rowStart[ y ] + x;
+        }
+        else
+        {
+            return rowStart[ x ] + y;
+        }
+    }
+
+    /**
+     * @param x - a row
+     * @return the first column held for the row
+     */
+    public int firstColumn( int x )
+    {
+        return symmetric ? x : 0;
+    }
+
+    /**
+     * @return number of cells held
+     */
+    public int numberOfCells( )
+    {
+        return numberOfCells;
+    }
+
+    /**
+     * @return size of both dimensions
+     */
+    public int size( )
+    {
+        return size;
+    }
+
+    /**
+     * @return true if only the upper triangle is held
+     */
+    public boolean isSymmetric( )
+    {
+        return symmetric;
+    }
+
+}   // end class
+
+//------- end file ----------------------------------------
@@ -11,6 +11,7 @@ import java.util.*;
 import problem.*;
 import engine.*;
 import config.*;
+import myUtils.WorkerPool;
 
 /**
  *
@@ -19,18 +20,54 @@ import config.*;
 
 public class PheromoneMatrix
 {
+    /**
+     * a change to the pheromone on an edge, as a function of its 
+     * current level 17 October 2026
+     */
+    public interface EdgeUpdate
+    {
+        /**
+         * @param from node number
+         * @param to node number
+         * @param probability, the current level
+         * @return the new level, not negative, or UNCHANGED
+         */
+        double apply( int from, int to, double probability );
+    }
+    
+    /** 
+     * returned by an edge update to leave the edge untouched, neither 
+     * written nor recorded as changed 17 October 2026
+     */
+    public static final double UNCHANGED = -1.0;
+    
     /** initial probability value */
     private static final double INITIAL_PROBABILITY = 1.0;
     
     //private static final double MMAS_INITIAL_PROBABILITY = AlgorithmParameters.MMAS_PHEROMONE_MAXIMUM_SD;
     
     private static final double HEURISTIC_LOAD_FACTOR = 1.0;
+    
+    /** 
+     * in lazy evaporation, the decay below which every cell is
+     * brought up to date, before the stored values grow too large
+     * 17 October 2026
+     */
+    static final double LOWEST_DECAY = 1.0E-100;
 
     /**
      * 'x' coordinate is 'from'
      * 'y' coordinate is 'to'
+     * 17 October 2026, held row by row in one array, 
+     * the cell at x, y being at layout.index( x, y )
+     */
+    private double[ ] cells; 
+    
+    /** 
+     * the layout of the cells: full, or for TSP, where every update
+     * is symmetric, the upper triangle only 17 October 2026
      */
-    private double[ ][ ] matrix; 
+    private MatrixLayout layout;
     
     /** list of attributes and methods */
     private List< Node > amList;
@@ -39,21 +76,118 @@ public class PheromoneMatrix
     /** size of both 'x' and 'y' dimensions of table */
     private int size;
     
+    // 17 October 2026
+    // record of the changes since the alpha matrix last caught up,
+    // so that it need only recalculate the cells that have changed
+    
+    /** product of the uniform scalings of every cell since last caught up */
+    private double pendingScale;
+    
+    /** true if every cell is to be treated as changed */
+    private boolean allChanged;
+    
+    /** true for each changed cell, indexed by layout.index( x, y ) */
+    private boolean[ ] changed;
+    
+    /** the changed cells, indexed by ( x * size ) + y, in order of change */
+    private int[ ] changedCells;
+    
+    /** number of changed cells */
+    private int numberOfChanges;
+    
+    // 17 October 2026
+    // lazy evaporation: each cell holds its value divided by the decay
+    // at the time it was written, so that uniform evaporation need only
+    // change the decay; always 1.0 when evaporation is not lazy
+    
+    /** true if uniform evaporation is lazy */
+    private final boolean lazy;
+    
+    /** the configuration of the experiment 17 October 2026 */
+    private final Configuration configuration;
+    
+    /** product of the uniform scalings not yet applied to the cells */
+    private double decay;
+    
+    // 17 October 2026
+    // the lowest and highest stored values, kept up to date as cells
+    // are set, so that elitist evaporation need not scan for them. 
+    // Each count is at most the number of cells holding the value,
+    // so while it is above zero, the value is still held.
+    
+    /** lowest stored value, when known */
+    private double lowest;
+    
+    /** highest stored value, when known */
+    private double highest;
+    
+    /** number of cells known to hold the lowest value */
+    private int numberAtLowest;
+    
+    /** number of cells known to hold the highest value */
+    private int numberAtHighest;
+    
+    /** true if lowest and highest are up to date */
+    private boolean rangeKnown;
+    
+    // 17 October 2026
+    // parallel pheromone update: once the matrix is large enough, bulk
+    // operations share out the cells in stripes among a pool of workers,
+    // and queued deposits are applied by the worker owning each cell
+    
+    /** the workers, or null if the update is sequential */
+    private WorkerPool workerPool;
+    
+    /** true while deposits are queued, to be applied together */
+    private boolean queueing;
+    
+    /** the deposits queued, in order */
+    private final List< QueuedUpdate > queue = new ArrayList< >( );
+    
+    /** the changes made in each stripe by the last parallel deposit */
+    private StripeChanges[ ] stripeChanges;
+    
+    /** the lowest and highest values found in each stripe, and their counts */
+    private double[ ] stripeLowest, stripeHighest;
+    private int[ ] stripeAtLowest, stripeAtHighest;
+    
     /**
-     * construct a pheromone table
+     * construct a pheromone table, configured by the static parameters
      * @param attribute and method list
      * @param numberOfClasses 
      * @param problem controller
      */
     public PheromoneMatrix( 
         List< Node > amList, int numberOfClasses, ProblemController problemController )
+    {
+        this( amList, numberOfClasses, problemController, Configuration.fromParameters( ) );
+    }
+    
+    /**
+     * construct a pheromone table
+     * 17 October 2026
+     * @param attribute and method list
+     * @param numberOfClasses 
+     * @param problem controller
+     * @param configuration of the experiment
+     */
+    public PheromoneMatrix( 
+        List< Node > amList, 
+        int numberOfClasses, 
+        ProblemController problemController,
+        Configuration configuration )
     {
        assert amList != null;
        assert amList.size( ) >= 0;
        assert numberOfClasses >= 0;
        assert problemController != null;
+       assert configuration != null;
        
        this.amList = amList;
+       this.configuration = configuration;
+       this.lazy = configuration.isLazyEvaporation( );
+       this.decay = 1.0;
+       this.rangeKnown = false;
        
        if( problemController.getCurrentProblemInstance( ) == Parameters.TSP_BERLIN52 )
        {
@@ -75,19 +209,26 @@ public class PheromoneMatrix
        {
            this.size = amList.size( ) + numberOfClasses + 1; // plus one for the nest
 
-           matrix = new double[ size ][ size ];
+           this.layout = new MatrixLayout( size, false );
+           cells = new double[ layout.numberOfCells( ) ];
 
            for( int i = 0; i < size; i++ )
            {
                for( int j = 0; j < size; j++ )
                {
-                   matrix[ i ][ j ] = 0.0;
+                   cells[ layout.index( i, j ) ] = 0.0;
                }
            }
 
            initialisePheromone( problemController );
        }
        
+       this.pendingScale = 1.0;
+       this.allChanged = true;
+       this.changed = new boolean[ layout.numberOfCells( ) ];
+       this.changedCells = new int[ layout.numberOfCells( ) ];
+       this.numberOfChanges = 0;
+       
        // for testing
 //       show( );
     }  
@@ -99,14 +240,16 @@ public class PheromoneMatrix
         // System.out.println( "size of pheromone matrix is: " + numberOfCities );
         this.size = numberOfCities;
 
-        this.matrix = new double[ this.size ][ this.size ];
+        // 17 October 2026, tours are symmetric, so hold the upper triangle only
+        this.layout = new MatrixLayout( this.size, true );
+        this.cells = new double[ layout.numberOfCells( ) ];
 
         // assume we're using the MMAS algorithm 
         for( int i = 0; i < this.size; i++ )
         {
-            for( int j = 0; j < this.size; j++ )
+            for( int j = layout.firstColumn( i ); j < this.size; j++ )
             {
-                this.matrix[ i ][ j ] = AlgorithmParameters.MMAS_PHEROMONE_MAXIMUM_TSP;
+                this.cells[ layout.index( i, j ) ] = AlgorithmParameters.MMAS_PHEROMONE_MAXIMUM_TSP;
             }
         }
 
@@ -114,7 +257,7 @@ public class PheromoneMatrix
         // logically feasible, so set to 0.0
         for( int k = 0; k < this.size; k++ )
         {
-            this.matrix[ k ][ k ] = 0.0;
+            this.cells[ layout.index( k, k ) ] = 0.0;
         }
     }
     
@@ -141,13 +284,13 @@ public class PheromoneMatrix
         {
             for( int j = 0; j < size; j++ )
             {
-                if( AlgorithmParameters.algorithm == AlgorithmParameters.MMAS )
+                if( configuration.getAlgorithm( ) == AlgorithmParameters.MMAS )
                 {
-                    matrix[ i ][ j ] = AlgorithmParameters.MMAS_PHEROMONE_MAXIMUM_SD;
+                    cells[ layout.index( i, j ) ] = AlgorithmParameters.MMAS_PHEROMONE_MAXIMUM_SD;
                 }
                 else
                 {
-                    matrix[ i ][ j ] = INITIAL_PROBABILITY;
+                    cells[ layout.index( i, j ) ] = INITIAL_PROBABILITY;
                 }
            }
        }
@@ -156,7 +299,7 @@ public class PheromoneMatrix
        // logically feasible, so set to 0.0
        for( int k = 0; k < size; k++ )
        {
-           matrix[ k ][ k ] = 0.0;
+           cells[ layout.index( k, k ) ] = 0.0;
        }
        
     }
@@ -173,7 +316,7 @@ public class PheromoneMatrix
        {
            for( int j = start; j < size; j++ )
            {
-                matrix[ i ][ j ] = 0.0;
+                cells[ layout.index( i, j ) ] = 0.0;
            }
        }   
     }
@@ -210,10 +353,10 @@ public class PheromoneMatrix
                 if( useMatrix[ i ][ j ] == 1 )
                 {
                     // from methods to attributes firstly
-                    this.matrix[ i ][ j + actionListSize - 1 ] *= HEURISTIC_LOAD_FACTOR;
+                    this.cells[ layout.index( i, j + actionListSize - 1 ) ] *= HEURISTIC_LOAD_FACTOR;
                     
                     // from attributes to methods secondly
-                    this.matrix[ i + datumListSize - 1 ][ j ] *= HEURISTIC_LOAD_FACTOR; 
+                    this.cells[ layout.index( i + datumListSize - 1, j ) ] *= HEURISTIC_LOAD_FACTOR; 
                 }
             }
         }
@@ -234,7 +377,7 @@ public class PheromoneMatrix
             System.out.print("\t" + "Row: " + i + ": " );
             for( int j = 0; j < size(); j++ )
             {
-                System.out.print(df.format(matrix[ i ][ j ] ) );
+                System.out.print(df.format( getProbabilityAt( i, j ) ) );
                 System.out.print(" ");
             }
             System.out.println( );
@@ -250,7 +393,8 @@ public class PheromoneMatrix
         assert x >= 0 && x < size : "x is: " + x + ", and y is: " + y;
         assert y >= 0 && y < size : "x is: " + x + ", and y is: " + y;
         
-        return matrix[ x ][ y ];
+        // 17 October 2026, the decay is 1.0 unless evaporation is lazy
+        return cells[ layout.index( x, y ) ] * decay;
     }
     
     /**
@@ -263,7 +407,653 @@ public class PheromoneMatrix
         assert y >= 0 && y < size : "x is: " + x + ", and y is: " + y;
         assert probability >= 0.0;
 
-        matrix[ x ][ y ] = probability;
+        final int cell = layout.index( x, y );
+        final double stored = probability / decay;
+        
+        if( rangeKnown )
+        {
+            noteChange( cells[ cell ], stored );
+        }
+        cells[ cell ] = stored;
+        
+        // 17 October 2026
+        if( allChanged == false )
+        {
+            if( changed[ cell ] == false )
+            {
+                changed[ cell ] = true;
+                changedCells[ numberOfChanges ] = ( x * size ) + y;
+                numberOfChanges++;
+            }
+        }
+    }
+    
+    /**
+     * multiply every probability by the same factor, as in uniform
+     * evaporation. Recorded as a single scaling, not as changed cells.
+     * When evaporation is lazy, only the decay changes, in O(1).
+     * 17 October 2026
+     * @param factor, not negative, and positive when lazy
+     */
+    public void scale( double factor )
+    {
+        assert factor > 0.0 || lazy == false;
+        assert factor >= 0.0;
+        
+        pendingScale *= factor;
+        
+        // 17 October 2026, in O(1) when lazy
+        if( lazy )
+        {
+            decay *= factor;
+            
+            if( decay < LOWEST_DECAY )
+            {
+                materialise( );
+            }
+        }
+        else
+        {
+            final double[ ] cells = this.cells;
+            inStripes( cells.length, ( from, to ) -> 
+            {
+                for( int k = from; k < to; k++ )
+                {
+                    cells[ k ] *= factor;
+                }
+            } );
+            
+            // the cells holding each value still do
+            lowest *= factor;
+            highest *= factor;
+        }
+    }
+    
+    /**
+     * apply any decay not yet applied to the cells, in O(n * n)
+     * 17 October 2026
+     */
+    private void materialise( )
+    {
+        if( decay != 1.0 )
+        {
+            final double[ ] cells = this.cells;
+            final double factor = decay;
+            inStripes( cells.length, ( from, to ) -> 
+            {
+                for( int k = from; k < to; k++ )
+                {
+                    cells[ k ] *= factor;
+                }
+            } );
+            
+            lowest *= decay;
+            highest *= decay;
+            decay = 1.0;
+        }
+    }
+    
+    /**
+     * @return true if uniform evaporation is lazy
+     */
+    public boolean isLazy( )
+    {
+        return lazy;
+    }
+    
+    /**
+     * 17 October 2026
+     * @return the configuration of the experiment, 
+     * by which the pheromone operators update the matrix
+     */
+    public Configuration getConfiguration( )
+    {
+        return configuration;
+    }
+    
+    /**
+     * keep the lowest and highest values up to date as a cell changes,
+     * forgetting them if the last cell known to hold either changes
+     * 17 October 2026
+     * @param previous stored value of the cell
+     * @param value now stored in the cell
+     */
+    private void noteChange( double previous, double value )
+    {
+        if( previous == lowest )
+        {
+            numberAtLowest--;
+        }
+        if( previous == highest )
+        {
+            numberAtHighest--;
+        }
+        
+        if( value < lowest )
+        {
+            lowest = value;
+            numberAtLowest = 1;
+        }
+        else if( value == lowest )
+        {
+            numberAtLowest++;
+        }
+        
+        if( value > highest )
+        {
+            highest = value;
+            numberAtHighest = 1;
+        }
+        else if( value == highest )
+        {
+            numberAtHighest++;
+        }
+        
+        if( numberAtLowest == 0 || numberAtHighest == 0 )
+        {
+            rangeKnown = false;
+        }
+    }
+    
+    /**
+     * update the probabilities at x, y and at y, x together,
+     * as for the symmetric edges of a TSP tour
+     * 17 October 2026
+     * @param x
+     * @param y
+     * @param probability, the new value of both
+     */
+    public void setSymmetricAt( int x, int y, double probability )
+    {
+        setProbabilityAt( x, y, probability );
+        
+        if( layout.isSymmetric( ) == false )
+        {
+            setProbabilityAt( y, x, probability );
+        }
+    }
+    
+    /**
+     * hold every probability within a range, recording 
+     * only those cells that actually change
+     * 17 October 2026
+     * @param minimum
+     * @param maximum
+     */
+    public void clamp( double minimum, double maximum )
+    {
+        assert minimum >= 0.0 && minimum <= maximum;
+        materialise( );
+        
+        for( int x = 0; x < size; x++ )
+        {
+            for( int y = layout.firstColumn( x ); y < size; y++ )
+            {
+                final double value = cells[ layout.index( x, y ) ];
+                if( value < minimum )
+                {
+                    setProbabilityAt( x, y, minimum );
+                }
+                else if( value > maximum )
+                {
+                    setProbabilityAt( x, y, maximum );
+                }
+            }
+        }
+    }
+    
+    /**
+     * replace every probability p by function( p ) in one pass,
+     * as in elitist evaporation. Every cell is treated as changed.
+     * The lowest and highest values are found in the same pass.
+     * 17 October 2026
+     * @param function, returning a value not negative
+     */
+    public void transform( java.util.function.DoubleUnaryOperator function )
+    {
+        assert function != null;
+        markAllChanged( );
+        materialise( );
+        
+        transformAndFindRange( function );
+    }
+    
+    /**
+     * the lowest and highest probabilities, in O(1) unless a scan
+     * is needed because the last cell known to hold either changed
+     * 17 October 2026
+     * @return { lowest, highest }
+     */
+    public double[ ] getRange( )
+    {
+        if( rangeKnown == false )
+        {
+            findRange( );
+        }
+        
+        return new double[ ] { lowest * decay, highest * decay };
+    }
+    
+    /**
+     * the midpoint of the lowest and highest probabilities,
+     * about which elitist evaporation decays proportionately
+     * 17 October 2026
+     * @return the median
+     */
+    public double getMedian( )
+    {
+        final double[ ] range = getRange( );
+        return range[ 0 ] + ( ( range[ 1 ] - range[ 0 ] ) / 2.0 );
+    }
+    
+    /**
+     * find the lowest and highest stored values, and
+     * the number of cells holding each, in one scan
+     * 17 October 2026
+     */
+    private void findRange( )
+    {
+        transformAndFindRange( null );
+    }
+    
+    /**
+     * In one pass, optionally replace every stored value v by 
+     * function( v ), and find the lowest and highest stored values,
+     * and the number of cells holding each. Each stripe of cells is
+     * scanned separately, and the stripes are then combined in order.
+     * 17 October 2026
+     * @param function, or null to leave the cells unchanged
+     */
+    private void transformAndFindRange( java.util.function.DoubleUnaryOperator function )
+    {
+        final double[ ] cells = this.cells;
+        final int stripes = numberOfStripes( );
+        
+        if( stripeLowest == null || stripeLowest.length < stripes )
+        {
+            stripeLowest = new double[ stripes ];
+            stripeHighest = new double[ stripes ];
+            stripeAtLowest = new int[ stripes ];
+            stripeAtHighest = new int[ stripes ];
+        }
+        
+        inStripes( stripes, ( first, last ) -> 
+        {
+            for( int stripe = first; stripe < last; stripe++ )
+            {
+                double low = Double.MAX_VALUE;
+                double high = -Double.MAX_VALUE;
+                int atLow = 0;
+                int atHigh = 0;
+                
+                final int to = stripeStart( stripe + 1, stripes, cells.length );
+                for( int k = stripeStart( stripe, stripes, cells.length ); k < to; k++ )
+                {
+                    double value = cells[ k ];
+                    
+                    if( function != null )
+                    {
+                        value = function.applyAsDouble( value );
+                        assert value >= 0.0;
+                        cells[ k ] = value;
+                    }
+                    
+                    if( value < low )
+                    {
+                        low = value;
+                        atLow = 1;
+                    }
+                    else if( value == low )
+                    {
+                        atLow++;
+                    }
+                    
+                    if( value > high )
+                    {
+                        high = value;
+                        atHigh = 1;
+                    }
+                    else if( value == high )
+                    {
+                        atHigh++;
+                    }
+                }
+                
+                stripeLowest[ stripe ] = low;
+                stripeHighest[ stripe ] = high;
+                stripeAtLowest[ stripe ] = atLow;
+                stripeAtHighest[ stripe ] = atHigh;
+            }
+        } );
+        
+        lowest = Double.MAX_VALUE;
+        highest = -Double.MAX_VALUE;
+        numberAtLowest = 0;
+        numberAtHighest = 0;
+        
+        for( int stripe = 0; stripe < stripes; stripe++ )
+        {
+            if( stripeLowest[ stripe ] < lowest )
+            {
+                lowest = stripeLowest[ stripe ];
+                numberAtLowest = stripeAtLowest[ stripe ];
+            }
+            else if( stripeLowest[ stripe ] == lowest )
+            {
+                numberAtLowest += stripeAtLowest[ stripe ];
+            }
+            
+            if( stripeHighest[ stripe ] > highest )
+            {
+                highest = stripeHighest[ stripe ];
+                numberAtHighest = stripeAtHighest[ stripe ];
+            }
+            else if( stripeHighest[ stripe ] == highest )
+            {
+                numberAtHighest += stripeAtHighest[ stripe ];
+            }
+        }
+        
+        rangeKnown = true;
+    }
+    
+    /**
+     * Share out the work on a pool of workers, for a parallel pheromone
+     * update, once the matrix has at least 
+     * the configured parallelUpdateThreshold nodes
+     * 17 October 2026
+     * @param workerPool, or null for a sequential update
+     */
+    public void setWorkerPool( WorkerPool workerPool )
+    {
+        this.workerPool = workerPool;
+    }
+    
+    /**
+     * @return the number of stripes into which to divide bulk work
+     */
+    private int numberOfStripes( )
+    {
+        if( workerPool != null && size >= configuration.getParallelUpdateThreshold( ) )
+        {
+            return workerPool.size( );
+        }
+        else
+        {
+            return 1;
+        }
+    }
+    
+    /**
+     * @param stripe, from zero to stripes
+     * @param stripes, the number of stripes
+     * @param count, the number of items divided into stripes
+     * @return the first item of the stripe
+     */
+    private static int stripeStart( int stripe, int stripes, int count )
+    {
+        return (int) ( (long) count * stripe / stripes );
+    }
+    
+    /**
+     * Run a task over the items 0 ... count - 1 (e.g. the cells or
+     * rows of this, or of the alpha matrix), divided into stripes 
+     * among the workers if the update is parallel and the matrix
+     * large enough, or otherwise as one stripe in this thread.
+     * 17 October 2026
+     * @param count number of items
+     * @param task, for each stripe
+     */
+    public void inStripes( int count, WorkerPool.BlockTask task )
+    {
+        if( numberOfStripes( ) > 1 )
+        {
+            workerPool.forEachBlock( count, task );
+        }
+        else
+        {
+            task.run( 0, count );
+        }
+    }
+    
+    /**
+     * Change the pheromone along the edges of a path, from node 0 to 
+     * node 1, node 1 to node 2, and so on, symmetrically. Between 
+     * queueUpdates( ) and applyUpdates( ) the change is queued.
+     * 17 October 2026
+     * @param ids, the node numbers of the path
+     * @param numberOfEdges, from the start of the path
+     * @param update, for each edge
+     */
+    public void updateAlongPath( int[ ] ids, int numberOfEdges, EdgeUpdate update )
+    {
+        assert ids != null && update != null;
+        assert numberOfEdges >= 0 && ( numberOfEdges == 0 || numberOfEdges < ids.length );
+        
+        if( queueing )
+        {
+            queue.add( new QueuedUpdate( ids, numberOfEdges, update ) );
+        }
+        else
+        {
+            for( int i = 1; i <= numberOfEdges; i++ )
+            {
+                final int from = ids[ i - 1 ];
+                final int to = ids[ i ];
+                final double probability = update.apply( from, to, getProbabilityAt( from, to ) );
+                
+                if( probability != UNCHANGED )
+                {
+                    setSymmetricAt( from, to, probability );
+                }
+            }
+        }
+    }
+    
+    /**
+     * queue the changes made by updateAlongPath( ), until applyUpdates( )
+     * 17 October 2026
+     */
+    public void queueUpdates( )
+    {
+        assert queueing == false && queue.isEmpty( );
+        queueing = true;
+    }
+    
+    /**
+     * Apply the queued changes, in the order they were queued.
+     * In a parallel update of a symmetric matrix, where each edge is
+     * one cell, every worker takes its own stripe of cells and walks
+     * through all the queued changes, applying those to its cells. 
+     * Each cell is so changed by one worker only, without locks, and 
+     * in the same order as in a sequential update, so the result is
+     * the same. The changes made in each stripe are then recorded,
+     * stripe by stripe.
+     * 17 October 2026
+     */
+    public void applyUpdates( )
+    {
+        assert queueing;
+        queueing = false;
+        
+        final int stripes = numberOfStripes( );
+        
+        if( stripes > 1 && layout.isSymmetric( ) )
+        {
+            if( stripeChanges == null || stripeChanges.length < stripes )
+            {
+                stripeChanges = new StripeChanges[ stripes ];
+                for( int stripe = 0; stripe < stripes; stripe++ )
+                {
+                    stripeChanges[ stripe ] = new StripeChanges( );
+                }
+            }
+            
+            workerPool.forEachBlock( stripes, ( first, last ) -> 
+            {
+                for( int stripe = first; stripe < last; stripe++ )
+                {
+                    applyUpdatesInStripe( 
+                        stripeStart( stripe, stripes, cells.length ),
+                        stripeStart( stripe + 1, stripes, cells.length ),
+                        stripeChanges[ stripe ] );
+                }
+            } );
+            
+            for( int stripe = 0; stripe < stripes; stripe++ )
+            {
+                final StripeChanges changes = stripeChanges[ stripe ];
+                
+                for( int k = 0; k < changes.numberOfCells; k++ )
+                {
+                    changedCells[ numberOfChanges ] = changes.cells[ k ];
+                    numberOfChanges++;
+                }
+                
+                for( int k = 0; k < changes.numberOfWrites && rangeKnown; k++ )
+                {
+                    noteChange( changes.previous[ k ], changes.values[ k ] );
+                }
+            }
+        }
+        else
+        {
+            for( QueuedUpdate queued : queue )
+            {
+                updateAlongPath( queued.ids, queued.numberOfEdges, queued.update );
+            }
+        }
+        
+        queue.clear( );
+    }
+    
+    /**
+     * apply the queued changes to the edges whose cells lie in a stripe
+     * 17 October 2026
+     * @param first cell of the stripe
+     * @param last cell of the stripe (exclusive)
+     * @param changes, the record of changes made in the stripe
+     */
+    private void applyUpdatesInStripe( int first, int last, StripeChanges changes )
+    {
+        changes.clear( );
+        
+        for( QueuedUpdate queued : queue )
+        {
+            final int[ ] ids = queued.ids;
+            
+            for( int i = 1; i <= queued.numberOfEdges; i++ )
+            {
+                final int from = ids[ i - 1 ];
+                final int to = ids[ i ];
+                final int cell = layout.index( from, to );
+                
+                if( cell >= first && cell < last )
+                {
+                    // as setProbabilityAt( ), but recording the change locally
+                    final double probability = queued.update.apply( from, to, cells[ cell ] * decay );
+                    
+                    if( probability == UNCHANGED )
+                    {
+                        continue;
+                    }
+                    
+                    assert probability >= 0.0;
+                    final double stored = probability / decay;
+                    
+                    changes.recordWrite( cells[ cell ], stored );
+                    cells[ cell ] = stored;
+                    
+                    if( allChanged == false && changed[ cell ] == false )
+                    {
+                        changed[ cell ] = true;
+                        changes.recordCell( ( from * size ) + to );
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * The backing store, for reading in bulk, row by row.
+     * The probability at x, y is at getLayout( ).index( x, y ).
+     * Not to be written to; use setProbabilityAt( ) so that
+     * changes are recorded for the alpha matrix. Any lazy
+     * evaporation is applied first.
+     * 17 October 2026
+     * @return the cells, row by row
+     */
+    public double[ ] getCells( )
+    {
+        materialise( );
+        return cells;
+    }
+    
+    /**
+     * @return the layout of the cells in getCells( )
+     */
+    public MatrixLayout getLayout( )
+    {
+        return layout;
+    }
+    
+    /**
+     * treat every cell as changed, e.g. before changing them all
+     * 17 October 2026
+     */
+    public void markAllChanged( )
+    {
+        allChanged = true;
+    }
+    
+    /**
+     * @return the product of the uniform scalings since changes were last cleared
+     */
+    public double getPendingScale( )
+    {
+        return pendingScale;
+    }
+    
+    /**
+     * @return true if every cell is to be treated as changed
+     */
+    public boolean isAllChanged( )
+    {
+        return allChanged;
+    }
+    
+    /**
+     * @return number of changed cells, when not all are changed
+     */
+    public int getNumberOfChanges( )
+    {
+        return numberOfChanges;
+    }
+    
+    /**
+     * @param k - from zero to getNumberOfChanges( ) - 1
+     * @return the changed cell, as ( x * size ) + y
+     */
+    public int getChangedCell( int k )
+    {
+        assert k >= 0 && k < numberOfChanges : "k is: " + k;
+        return changedCells[ k ];
+    }
+    
+    /**
+     * forget all changes, once the alpha matrix has caught up
+     * 17 October 2026
+     */
+    public void clearChanges( )
+    {
+        for( int k = 0; k < numberOfChanges; k++ )
+        {
+            final int cell = changedCells[ k ];
+            changed[ layout.index( cell / size, cell % size ) ] = false;
+        }
+        numberOfChanges = 0;
+        allChanged = false;
+        pendingScale = 1.0;
     }
 
     /**
@@ -274,6 +1064,67 @@ public class PheromoneMatrix
         return size;
     }
     
+    /**
+     * a change along a path, queued 17 October 2026
+     */
+    private static final class QueuedUpdate
+    {
+        final int[ ] ids;
+        final int numberOfEdges;
+        final EdgeUpdate update;
+        
+        QueuedUpdate( int[ ] ids, int numberOfEdges, EdgeUpdate update )
+        {
+            this.ids = ids;
+            this.numberOfEdges = numberOfEdges;
+            this.update = update;
+        }
+    }
+    
+    /**
+     * the changes made by one worker in its stripe, 
+     * reused from one update to the next 17 October 2026
+     */
+    private static final class StripeChanges
+    {
+        /** newly changed cells, as ( x * size ) + y */
+        int[ ] cells = new int[ 64 ];
+        int numberOfCells;
+        
+        /** every write, as the stored value before and after */
+        double[ ] previous = new double[ 64 ];
+        double[ ] values = new double[ 64 ];
+        int numberOfWrites;
+        
+        void clear( )
+        {
+            numberOfCells = 0;
+            numberOfWrites = 0;
+        }
+        
+        void recordCell( int cell )
+        {
+            if( numberOfCells == cells.length )
+            {
+                cells = Arrays.copyOf( cells, 2 * numberOfCells );
+            }
+            cells[ numberOfCells ] = cell;
+            numberOfCells++;
+        }
+        
+        void recordWrite( double before, double after )
+        {
+            if( numberOfWrites == previous.length )
+            {
+                previous = Arrays.copyOf( previous, 2 * numberOfWrites );
+                values = Arrays.copyOf( values, 2 * numberOfWrites );
+            }
+            previous[ numberOfWrites ] = before;
+            values[ numberOfWrites ] = after;
+            numberOfWrites++;
+        }
+    }
+    
 }   // end class
 
 //------- end file ----------------------------------------
@@ -47,34 +47,22 @@ public class PheromoneOperators
     public static void evaporate( PheromoneMatrix pheromoneTable )
     {
         assert pheromoneTable != null;
-        final int pheromoneTableSize = pheromoneTable.size( );
+        // 17 October 2026, configured as the pheromone matrix is
+        final Configuration configuration = pheromoneTable.getConfiguration( );
         
         // 19 April 2012 - fitness proportionate decay
         double lowest = 1000000.0;
         double highest = 0.0;
-        double prob = 0.0;
         double median = 0.0;
         
         // 24 April 2012, switch to toggle elist evaporation
-        if( AlgorithmParameters.evaporationElitism == true )
+        if( configuration.isEvaporationElitism( ) == true )
         {
-            for( int i = 0; i < pheromoneTableSize; i++) 
-            {
-                for( int j = 0; j < pheromoneTableSize; j++) 
-                {
-                    prob = pheromoneTable.getProbabilityAt( i, j );
-
-                    if( prob < lowest )
-                    {
-                        lowest = prob;
-                    }
-
-                    if( prob > highest )
-                    {
-                        highest = prob;
-                    }
-                }
-            }
+            // 17 October 2026, kept up to date by the pheromone matrix,
+            // and found in the same pass as the last elitist evaporation
+            final double[ ] range = pheromoneTable.getRange( );
+            lowest = range[ 0 ];
+            highest = range[ 1 ];
         
             assert highest >= lowest;
             assert highest - lowest != 0.0;
@@ -84,45 +72,45 @@ public class PheromoneOperators
         }
         
         // 27 November 2015: use the value of the algorithm paramter RHO directly
-        final double evaporationFactor = 1.0 - AlgorithmParameters.rho;
+        final double evaporationFactor = 1.0 - configuration.getRho( );
         assert evaporationFactor >= 0.0;
         assert evaporationFactor <= 1.0;
         
-        for( int i = 0; i < pheromoneTableSize; i++) 
+        if( configuration.isEvaporationElitism( ) == true )
         {
-            for( int j = 0; j < pheromoneTableSize; j++) 
+            // 17 October 2026, every cell decays by its own multiplier,
+            // in one pass over the flat matrix
+            final double top = highest;
+            final double middle = median;
+            
+            pheromoneTable.transform( prob -> 
             {
-                prob = pheromoneTable.getProbabilityAt( i, j );
-                double newProb = 0.0;
-                
-                if( AlgorithmParameters.evaporationElitism == true )
-                {
-                    double multiplier = 1.0;
+                double multiplier = 1.0;
 
-                    if( prob > median ) // decay is proportionately less
-                    {
-                        double difference = highest - prob;
-                        multiplier = evaporationFactor * ( 1 - ( difference / median ) * ELITIST_FACTOR );
-                    }
-                    else if( prob < median ) // decay is proportionately more
-                    {
-                        double difference = median - prob;
-                        multiplier = evaporationFactor * ( 1 + ( difference / median ) * ELITIST_FACTOR );
-                    }
-                    else // prob == median
-                    {
-                        // do nothing, multiplier staus at 1.0
-                    }
-
-                    newProb = prob * multiplier;
+                if( prob > middle ) // decay is proportionately less
+                {
+                    double difference = top - prob;
+                    multiplier = evaporationFactor * ( 1 - ( difference / middle ) * ELITIST_FACTOR );
                 }
-                else // uniform (normal) evaporation 
+                else if( prob < middle ) // decay is proportionately more
                 {
-                    newProb = prob * evaporationFactor;  
+                    double difference = middle - prob;
+                    multiplier = evaporationFactor * ( 1 + ( difference / middle ) * ELITIST_FACTOR );
                 }
-                        
-                pheromoneTable.setProbabilityAt( i , j, newProb );
-            }
+                else // prob == median
+                {
+                    // do nothing, multiplier staus at 1.0
+                }
+
+                return prob * multiplier;
+            } );
+        }
+        else // uniform (normal) evaporation 
+        {
+            // 17 October 2026, a single scaling of every cell, 
+            // which the alpha matrix can follow without recalculation,
+            // and which is O(1) when evaporation is lazy
+            pheromoneTable.scale( evaporationFactor );
         }
     }
     
@@ -144,7 +132,7 @@ public class PheromoneOperators
      * @param secondWorstInColonyCombined second worst path in the colony w.r.t. Combined
      * @param thirdWorstInColonyCombined third worst path in the colony w.r.t. Combined
      * @param iteration iteration count
-     * @param bpm best paths matrix for iteration
+     * @param bpm the edges of the best paths of the iteration
      * @param bestTSPPathInColony
      * @param worstTSPPathInColony
      */
@@ -163,7 +151,7 @@ public class PheromoneOperators
         Path secondWorstInColonyCombined,
         Path thirdWorstInColonyCombined,
         int iteration,
-        BestPathsMatrix bpm,
+        EdgeSet bpm,
         Path bestTSPPathInColony,
         Path secondBestTSPPathInColony,
         Path thirdBestTSPPathInColony,
@@ -177,34 +165,48 @@ public class PheromoneOperators
         assert iteration >= 0;
         assert bpm != null;
         
-        if( Parameters.problemNumber == Parameters.CBS || 
-            Parameters.problemNumber == Parameters.GDP ||
-            Parameters.problemNumber == Parameters.RANDOMISED ||
-            Parameters.problemNumber == Parameters.SC )
+        final Configuration configuration = pheromoneTable.getConfiguration( );
+        
+        if( configuration.getProblemNumber( ) == Parameters.CBS || 
+            configuration.getProblemNumber( ) == Parameters.GDP ||
+            configuration.getProblemNumber( ) == Parameters.RANDOMISED ||
+            configuration.getProblemNumber( ) == Parameters.SC )
         {
             assert bestInColonyCBO != null;
             assert bestInColonyNAC != null;
             assert bestInColonyATMR != null;
             assert bestInColonyCombined != null;
-            assert secondBestInColonyCombined != null;
-            assert thirdBestInColonyCombined != null;
+            assert secondBestInColonyCombined != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_DOUBLE;
+            assert thirdBestInColonyCombined != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
             assert worstInColonyCBO != null;
             assert worstInColonyNAC != null;
             assert worstInColonyCombined != null;
-            assert secondWorstInColonyCombined != null;
-            assert thirdWorstInColonyCombined != null;
+            assert secondWorstInColonyCombined != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_DOUBLE;
+            assert thirdWorstInColonyCombined != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
         }
         else // must be a TSP problem instance
         {
             assert bestTSPPathInColony != null; 
-            assert secondBestTSPPathInColony != null; 
-            assert thirdBestTSPPathInColony != null; 
+            assert secondBestTSPPathInColony != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_DOUBLE;
+            assert thirdBestTSPPathInColony != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
             assert worstTSPPathInColony != null;
-            assert secondWorstTSPPathInColony != null;
-            assert thirdWorstTSPPathInColony != null;
+            assert secondWorstTSPPathInColony != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_DOUBLE;
+            assert thirdWorstTSPPathInColony != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
         }
         
-        if( AlgorithmParameters.algorithm == AlgorithmParameters.SIMPLE_ACO ) 
+        // 17 October 2026, the deposits are queued, and then applied 
+        // together, in parallel stripes when the update is parallel
+        pheromoneTable.queueUpdates( );
+        
+        if( configuration.getAlgorithm( ) == AlgorithmParameters.SIMPLE_ACO ) 
         {
             // Simple-ACO (every ant lays pheromone), with antipheromone extensions
             performSimpleACOUpdate( 
@@ -215,7 +217,7 @@ public class PheromoneOperators
                 iteration,
                 bpm );
         }
-        else if( AlgorithmParameters.algorithm == AlgorithmParameters.MMAS ) 
+        else if( configuration.getAlgorithm( ) == AlgorithmParameters.MMAS ) 
         {
             // MAX-MIN Ant System,with antipheromone extensions
             performMMASUpdate( 
@@ -244,6 +246,8 @@ public class PheromoneOperators
         {
             assert false : "impossible algorithm parameter in pheromone update";
         }   
+        
+        pheromoneTable.applyUpdates( );
 
 //        pheromoneTable.show();
     }
@@ -262,7 +266,7 @@ public class PheromoneOperators
         Path worstInColonyCBO,
         Path worstInColonyCombined,
         int iteration,
-        BestPathsMatrix bpm )
+        EdgeSet bpm )
     {
         assert colony != null;
         assert pheromoneTable != null;
@@ -271,6 +275,7 @@ public class PheromoneOperators
         assert iteration >= 0;
         assert bpm != null;
         
+        final Configuration configuration = pheromoneTable.getConfiguration( );
         
         // firstly, lay pheromone for every ant in the colony
         Iterator< Path > it = colony.iterator( );
@@ -282,14 +287,14 @@ public class PheromoneOperators
         }
             
         // secondly, is there antipheromone to lay?
-        if( AlgorithmParameters.SIMPLE_ACO_SUBTRACTIVE_ANTIPHEROMONE == true )
+        if( configuration.isSimpleACOSubtractiveAntipheromone( ) == true )
         {
             // if so, then check to see if we're in the antipheromone phase...
-            if( AlgorithmParameters.antiPheromonePhasePercentage > 0 )
+            if( configuration.getAntiPheromonePhasePercentage( ) > 0 )
             {
                 // ... and if we are, lay antipheromone
-                assert iteration <= AlgorithmParameters.NUMBER_OF_ITERATIONS;
-                double progress = (double) iteration / (double) AlgorithmParameters.NUMBER_OF_ITERATIONS;
+                assert iteration <= configuration.getNumberOfIterations( );
+                double progress = (double) iteration / (double) configuration.getNumberOfIterations( );
                 assert progress <= 1.0;
                 progress *= 100.0;
                 assert progress >= 0.0 && progress <= 100.0 : "Progress Percentage is: " + progress;
@@ -298,9 +303,9 @@ public class PheromoneOperators
                 assert progressPercentage >= 0 && progressPercentage <= 100: "Progress Percentage is: " + progressPercentage;
 
                 // if so, are we at the early exploratory stage? 
-                if( progressPercentage < AlgorithmParameters.antiPheromonePhasePercentage )
+                if( progressPercentage < configuration.getAntiPheromonePhasePercentage( ) )
                 {
-                    if( AlgorithmParameters.fitness == AlgorithmParameters.CBO )
+                    if( configuration.getFitness( ) == AlgorithmParameters.CBO )
                     {
                         layAntiPheromoneForPath( 
                             AlgorithmParameters.SIMPLE_ACO,
@@ -308,7 +313,7 @@ public class PheromoneOperators
                             pheromoneTable,
                             bpm );
                     }
-                    else if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                    else if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                     {
                         layAntiPheromoneForPath( 
                             AlgorithmParameters.SIMPLE_ACO,
@@ -335,70 +340,43 @@ public class PheromoneOperators
         assert path != null;
         assert pheromoneTable != null;
         
-        final double delta = calculateDelta( path );
-        
-        int from = 0, to = 0;
+        final Configuration configuration = pheromoneTable.getConfiguration( );
+        final double delta = calculateDelta( path, configuration );
         
         // in software design problem instances,
-        // final node must be an "end of class"
-        final int finalNode = path.size( ) - 1;
-            
-        // and now iterate along the node list in the path
-        Iterator< Node > it = path.iterator( );
+        // final node must be an "end of class", and 
+        // the probability of moving from the last node is always zero,
+        // so update from the "nest" up to the node before it 
+        // 17 October 2026, along the node numbers in the path
+        final int numberOfEdges = path.size( ) - 2;
         
-        for( int i = 0; it.hasNext( ); i++ )
+        pheromoneTable.updateAlongPath( path.getIds( ), numberOfEdges, ( from, to, probability ) -> 
         {
-            Node node = it.next( );
+            probability += delta;
             
-            if( i == 0 )    // the "nest"
-            {    
-                from = node.getNumber( );
-            }
-            else if( i == finalNode ) // the last "end of class" marker
-            {
-                // do nothing, because the probability of moving from
-                // the last node is always zero
-                
-                // assert node instanceof EndOfClass;
-            }
-            else
+            if( configuration.getAlgorithm( ) == AlgorithmParameters.MMAS )
             {
-                to = node.getNumber( );
-            
-                double probability = pheromoneTable.getProbabilityAt( from, to );
-
-                probability += delta;
+                // In MAX-MIN Ant System, the range of pheromone levels
+                // is limited to an interval [Tmin, Tmax], which
+                // ensures a minimum degree of search diversification.
                 
-                if( AlgorithmParameters.algorithm == AlgorithmParameters.MMAS )
+                if( probability < configuration.getMMAS_Mmin( ) ) 
                 {
-                    // In MAX-MIN Ant System, the range of pheromone levels
-                    // is limited to an interval [Tmin, Tmax], which
-                    // ensures a minimum degree of search diversification.
-                    
-                    if( probability < AlgorithmParameters.MMAS_Mmin ) 
-                    {
-                        probability = AlgorithmParameters.MMAS_Mmin;
-                    }
-                    
-                    if( probability > AlgorithmParameters.MMAS_Mmax ) 
-                    {
-                        probability = AlgorithmParameters.MMAS_Mmax;
-                    }
+                    probability = configuration.getMMAS_Mmin( );
                 }
-
-                // in Simple-ACO, there is no enforcement of any range
-                // of pheromone levels in the pheromone matrix
-                
-                pheromoneTable.setProbabilityAt( from, to, probability );
                 
-                // 18 April 2012 symmetrical pheromone update 
-                pheromoneTable.setProbabilityAt( to, from, probability );
-
-                // advance to next vertex
-                from = to;
+                if( probability > configuration.getMMAS_Mmax( ) ) 
+                {
+                    probability = configuration.getMMAS_Mmax( );
+                }
             }
             
-        }   // end for each vertex in the solution path        
+            // in Simple-ACO, there is no enforcement of any range
+            // of pheromone levels in the pheromone matrix
+            
+            // 18 April 2012 symmetrical pheromone update 
+            return probability;
+        } );
     }
     
 
@@ -413,134 +391,89 @@ public class PheromoneOperators
         int algorithmParameter,
         Path path, 
         PheromoneMatrix pheromoneTable,
-        BestPathsMatrix bpm )
+        EdgeSet bpm )
     {
         assert algorithmParameter >= 0;
         assert path != null;
         assert pheromoneTable != null;
         assert bpm != null;
         
-        int from = 0, to = 0;
+        final Configuration configuration = pheromoneTable.getConfiguration( );
         
-        int nodeCounter = 0;
-        int preventCounter = 0;
-        
-        // final node must be an "end of class"
-        final int finalNode = path.size( ) - 1;
-            
-        // and now iterate along the node list in the path
-        Iterator< Node > it = path.iterator( );
+        // final node must be an "end of class", and the probability 
+        // of moving from the last end of class marker is always zero
+        // 17 October 2026, along the node numbers in the path
+        final int numberOfEdges = path.size( ) - 2;
         
-        for( int i = 0; it.hasNext( ); i++ )
+        pheromoneTable.updateAlongPath( path.getIds( ), numberOfEdges, ( from, to, probability ) -> 
         {
-            Node node = it.next( );
-            
-            if( i == 0 )    // the "nest"
-            {    
-                from = node.getNumber( );
-            }
-            else if( i == finalNode ) // the last "end of class" marker
-            {
-                // do nothing, because the probability of moving from
-                // the last end of class marker is always zero
+            if( algorithmParameter == AlgorithmParameters.SIMPLE_ACO )
+            {               
+                assert configuration.isSimpleACOSubtractiveAntipheromone( ) == true;
                 
-                // comment out 22 September 2018
-                // assert node instanceof EndOfClass;
+                // 15 June 2018
+                probability *= AlgorithmParameters.PHI; 
             }
-            else
+            else if( algorithmParameter == AlgorithmParameters.MMAS )
             {
-                to = node.getNumber( );
+                assert AlgorithmParameters.MMAS_ANTIPHEROMONE == true;
                 
-                if( algorithmParameter == AlgorithmParameters.SIMPLE_ACO )
-                {               
-                    assert AlgorithmParameters.SIMPLE_ACO_SUBTRACTIVE_ANTIPHEROMONE == true;
+                if( AlgorithmParameters.MMAS_REDUCE_BY_HALF == true )
+                {
+                    double rhoAntipheromoneMMAS = 0.5;
                     
-                    double probability = pheromoneTable.getProbabilityAt( from, to );
-                    // 15 June 2018
-                    probability *= AlgorithmParameters.PHI; 
+                    probability *= rhoAntipheromoneMMAS; 
                     
-                    pheromoneTable.setProbabilityAt( from, to, probability );
-                    // 18 April 2012 symmetrical pheromone update 
-                    pheromoneTable.setProbabilityAt( to, from, probability );
+                    if( probability < AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD )
+                    {
+                        probability = AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD;
+                    }
                 }
-                else if( algorithmParameter == AlgorithmParameters.MMAS )
+                else // lay down the minimum pheromone
                 {
-                    assert AlgorithmParameters.MMAS_ANTIPHEROMONE == true;
-                    
-                    if( AlgorithmParameters.MMAS_REDUCE_BY_HALF == true )
+                    if( configuration.isPreventInterference( ) == false ) // 21 August 2018
                     {
-                        double rhoAntipheromoneMMAS = 0.5;
-
-                        double probability = pheromoneTable.getProbabilityAt( from, to );
-                        probability *= rhoAntipheromoneMMAS; 
-
-                        if( probability < AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD )
-                        {
-                            probability = AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD;
-                        }
-
-                        pheromoneTable.setProbabilityAt( from, to, probability );
-                        // 18 April 2012 symmetrical pheromone update 
-                        pheromoneTable.setProbabilityAt( to, from, probability);
+                        probability = AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD;
                     }
-                    else // lay down the minimum pheromone
+                    else // we are preventing interference
                     {
-                        if( AlgorithmParameters.preventInterference == false ) // 21 August 2018
+                        if( bpm.contains( from, to ) == false )
                         {
-                            pheromoneTable.setProbabilityAt(from, to, AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD );
-                            // 18 April 2012 symmetrical pheromone update 
-                            pheromoneTable.setProbabilityAt(to, from, AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD );
+                            probability = AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD;
                         }
-                        else // we are preventing interference
+                        else
                         {
-                            if( bpm.bpMatrix[ from ][ to ] ==  0 )
-                            {
-                                pheromoneTable.setProbabilityAt(from, to, AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD );
-                                // symmetrical pheromone update 
-                                pheromoneTable.setProbabilityAt(to, from, AlgorithmParameters.MMAS_PHEROMONE_MINIMUM_SD ); 
-                            }
-                            else
-                            {
-                                preventCounter++;
-                            }
+                            // otherwise, the edge is left as it is, 
+                            // untouched 17 October 2026
+                            return PheromoneMatrix.UNCHANGED;
                         }
                     }
                 }
-                else
-                {
-                    assert false: "impossible algorithm parameter in antipheromone update";
-                }
-                
-                // advance to next vertex
-                from = to;
+            }
+            else
+            {
+                assert false: "impossible algorithm parameter in antipheromone update";
             }
             
-            nodeCounter++;
-            
-        }   // end for each vertex in the solution path    
-        
-        // 21 August 2018, for testing...
-//        if( preventCounter > 0 )
-//        {
-//            System.out.println( "nodes in path: " + nodeCounter );
-//            System.out.println( "node interference prevented: " + preventCounter );
-//            System.out.println( " " );
-//        }
+            // 18 April 2012 symmetrical pheromone update
+            return probability;
+        } );
     }
   
 
     /**
      * calculate the delta for update
      * @param path
-     * @param weights
+     * @param configuration, for the fitness and mu
      * @return delta
      */
-    private static double calculateDelta( Path path )
+    private static double calculateDelta( Path path, Configuration configuration )
     {
         assert path != null;
+        assert configuration != null;
         double rawValue = 0.0;
         
-        switch( AlgorithmParameters.fitness )
+        switch( configuration.getFitness( ) )
         {
             case AlgorithmParameters.CBO:
                 rawValue = 1 - path.getCBO( );
@@ -570,7 +503,7 @@ public class PheromoneOperators
         assert rawValue <= 1.0: "raw value is: " + rawValue;
      
         // calculate delta by raising the raw factor to the power of MU
-        double delta = Math.pow(rawValue, AlgorithmParameters.mu ); 
+        double delta = Math.pow(rawValue, configuration.getMu( ) ); 
         
         return delta;
     }
@@ -701,7 +634,7 @@ public class PheromoneOperators
      * @param second worst Path in Colony Combined
      * @param third worst Path in Colony Combined
      * @param iteration of the search
-     * @param bpm best paths matrix for this iteration
+     * @param bpm the edges of the best paths of this iteration
      */
     private static void performMMASUpdate( 
         List< Path > colony, 
@@ -717,7 +650,7 @@ public class PheromoneOperators
         Path secondWorstPathInColonyCombined,
         Path thirdWorstPathInColonyCombined,
         int iteration,
-        BestPathsMatrix bpm,
+        EdgeSet bpm,
         Path bestTSPPathInColony,
         Path secondBestTSPPathInColony,
         Path thirdBestTSPPathInColony,
@@ -730,65 +663,75 @@ public class PheromoneOperators
         assert iteration >= 0;
         assert bpm != null;
         
-        if( Parameters.problemNumber == Parameters.CBS ||
-            Parameters.problemNumber == Parameters.GDP ||
-            Parameters.problemNumber == Parameters.RANDOMISED ||
-            Parameters.problemNumber == Parameters.SC )
+        final Configuration configuration = pheromoneTable.getConfiguration( );
+        
+        if( configuration.getProblemNumber( ) == Parameters.CBS ||
+            configuration.getProblemNumber( ) == Parameters.GDP ||
+            configuration.getProblemNumber( ) == Parameters.RANDOMISED ||
+            configuration.getProblemNumber( ) == Parameters.SC )
         {
             assert bestPathInColonyCBO != null;
             assert bestPathInColonyNAC != null;
             assert bestPathInColonyCombined != null;
-            assert secondBestPathInColonyCombined != null;
-            assert thirdBestPathInColonyCombined != null;
+            assert secondBestPathInColonyCombined != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_DOUBLE;
+            assert thirdBestPathInColonyCombined != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
             assert worstPathInColonyCBO != null;
             assert worstPathInColonyNAC != null;
             assert worstPathInColonyCombined != null;
-            assert secondWorstPathInColonyCombined != null;
-            assert thirdWorstPathInColonyCombined != null;
+            assert secondWorstPathInColonyCombined != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_DOUBLE;
+            assert thirdWorstPathInColonyCombined != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
         }
-        else if( Parameters.problemNumber == Parameters.TSP_BERLIN52 ||
-                 Parameters.problemNumber == Parameters.TSP_ST70 ||
-                 Parameters.problemNumber == Parameters.TSP_RAT99 ||
-                 Parameters.problemNumber == Parameters.TSP_RAT195 )
+        else if( configuration.getProblemNumber( ) == Parameters.TSP_BERLIN52 ||
+                 configuration.getProblemNumber( ) == Parameters.TSP_ST70 ||
+                 configuration.getProblemNumber( ) == Parameters.TSP_RAT99 ||
+                 configuration.getProblemNumber( ) == Parameters.TSP_RAT195 )
         {
             assert bestTSPPathInColony != null; 
-            assert secondBestTSPPathInColony != null; 
-            assert thirdBestTSPPathInColony != null; 
+            assert secondBestTSPPathInColony != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_DOUBLE;
+            assert thirdBestTSPPathInColony != null ||
+                   configuration.getPheromoneStrength( ) < AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
             assert worstTSPPathInColony != null;
-            assert secondWorstTSPPathInColony != null;
-            assert thirdWorstTSPPathInColony != null;
+            assert secondWorstTSPPathInColony != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_DOUBLE;
+            assert thirdWorstTSPPathInColony != null ||
+                   configuration.getAntipheromoneStrength( ) < AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
         }
         else
         {
             assert false : "impossible fitness in performMMASUPdate( )";
         }
         
-        if( AlgorithmParameters.fitness == AlgorithmParameters.CBO )    
+        if( configuration.getFitness( ) == AlgorithmParameters.CBO )    
         {
             layPheromoneForPath( bestPathInColonyCBO, pheromoneTable );
         }
-        else if( AlgorithmParameters.fitness == AlgorithmParameters.NAC )
+        else if( configuration.getFitness( ) == AlgorithmParameters.NAC )
         {
             layPheromoneForPath( bestPathInColonyNAC, pheromoneTable );
         }
-        else if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED ||
-                 AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+        else if( configuration.getFitness( ) == AlgorithmParameters.COMBINED ||
+                 configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
         {
-            assert AlgorithmParameters.pheromoneStrength <= AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
-            assert AlgorithmParameters.pheromoneStrength >= AlgorithmParameters.MMAS_PHEROMONE_SINGLE;
+            assert configuration.getPheromoneStrength( ) <= AlgorithmParameters.MMAS_PHEROMONE_TRIPLE;
+            assert configuration.getPheromoneStrength( ) >= AlgorithmParameters.MMAS_PHEROMONE_SINGLE;
                     
-            switch( AlgorithmParameters.pheromoneStrength )
+            switch( configuration.getPheromoneStrength( ) )
             {
                 case AlgorithmParameters.MMAS_PHEROMONE_TRIPLE:
-                    if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                    if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                     {
                         layPheromoneForPath( thirdBestPathInColonyCombined, pheromoneTable );
-                        bpm.recordPath( thirdBestPathInColonyCombined);
+                        bpm.addPath( thirdBestPathInColonyCombined );
                     }
-                    else if( AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                    else if( configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                     {
                         layPheromoneForPath( thirdBestTSPPathInColony, pheromoneTable );
-                        bpm.recordPath( thirdBestTSPPathInColony );
+                        bpm.addPath( thirdBestTSPPathInColony );
                     }
                     else
                     {
@@ -796,15 +739,15 @@ public class PheromoneOperators
                     }
 
                 case AlgorithmParameters.MMAS_PHEROMONE_DOUBLE:
-                    if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                    if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                     {
                         layPheromoneForPath( secondBestPathInColonyCombined, pheromoneTable );
-                        bpm.recordPath( secondBestPathInColonyCombined);
+                        bpm.addPath( secondBestPathInColonyCombined );
                     }
-                    else if( AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                    else if( configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                     {
                         layPheromoneForPath( secondBestTSPPathInColony, pheromoneTable );
-                        bpm.recordPath( secondBestTSPPathInColony );
+                        bpm.addPath( secondBestTSPPathInColony );
                     }
                     else
                     {
@@ -812,15 +755,15 @@ public class PheromoneOperators
                     }
 
                 case AlgorithmParameters.MMAS_PHEROMONE_SINGLE:
-                    if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                    if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                     {
                         layPheromoneForPath( bestPathInColonyCombined, pheromoneTable );
-                        bpm.recordPath( bestPathInColonyCombined );
+                        bpm.addPath( bestPathInColonyCombined );
                     }
-                    else if( AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                    else if( configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                     {
                         layPheromoneForPath( bestTSPPathInColony, pheromoneTable );
-                        bpm.recordPath( bestTSPPathInColony );
+                        bpm.addPath( bestTSPPathInColony );
                     }
                     else
                     {
@@ -841,8 +784,8 @@ public class PheromoneOperators
         // optionally perform antipheromone update
         if( AlgorithmParameters.MMAS_ANTIPHEROMONE == true )
         {
-            assert iteration <= AlgorithmParameters.NUMBER_OF_ITERATIONS;
-            double progress = (double) iteration / (double) AlgorithmParameters.NUMBER_OF_ITERATIONS;
+            assert iteration <= configuration.getNumberOfIterations( );
+            double progress = (double) iteration / (double) configuration.getNumberOfIterations( );
             assert progress >= 0.0;
             assert progress <= 1.0;
             progress *= 100.0;
@@ -853,32 +796,32 @@ public class PheromoneOperators
             assert progressPercentage >= 0 : "Progress Percentage is: " + progressPercentage;
             assert progressPercentage <= 100 : "Progress Percentage is: " + progressPercentage;
             
-            if( progressPercentage < AlgorithmParameters.antiPheromonePhasePercentage )
+            if( progressPercentage < configuration.getAntiPheromonePhasePercentage( ) )
             {
-                if( AlgorithmParameters.fitness == AlgorithmParameters.CBO )    
+                if( configuration.getFitness( ) == AlgorithmParameters.CBO )    
                 {
                     layAntiPheromoneForPath( AlgorithmParameters.MMAS, worstPathInColonyCBO, pheromoneTable, bpm );
                 }
-                else if( AlgorithmParameters.fitness == AlgorithmParameters.NAC )
+                else if( configuration.getFitness( ) == AlgorithmParameters.NAC )
                 {
                     layAntiPheromoneForPath( AlgorithmParameters.MMAS, worstPathInColonyNAC, pheromoneTable, bpm );
                 }
-                else if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED ||
-                         AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                else if( configuration.getFitness( ) == AlgorithmParameters.COMBINED ||
+                         configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                 {
-                    assert AlgorithmParameters.antipheromoneStrength <= AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
-                    assert AlgorithmParameters.antipheromoneStrength >= AlgorithmParameters.ANTIPHEROMONE_STRENGTH_SINGLE:
-                            "antipheromone strength is: " + AlgorithmParameters.antipheromoneStrength; 
+                    assert configuration.getAntipheromoneStrength( ) <= AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE;
+                    assert configuration.getAntipheromoneStrength( ) >= AlgorithmParameters.ANTIPHEROMONE_STRENGTH_SINGLE:
+                            "antipheromone strength is: " + configuration.getAntipheromoneStrength( ); 
                     
-                    switch( AlgorithmParameters.antipheromoneStrength )
+                    switch( configuration.getAntipheromoneStrength( ) )
                     {
                         case AlgorithmParameters.ANTIPHEROMONE_STRENGTH_TRIPLE:
-                            if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                            if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                             {
                                 layAntiPheromoneForPath(
                                     AlgorithmParameters.MMAS, thirdWorstPathInColonyCombined, pheromoneTable, bpm );
                             }
-                            else if( AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                            else if( configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                             {
                                 layAntiPheromoneForPath( 
                                     AlgorithmParameters.MMAS, thirdWorstTSPPathInColony, pheromoneTable, bpm );
@@ -889,24 +832,24 @@ public class PheromoneOperators
                             }
                             
                         case AlgorithmParameters.ANTIPHEROMONE_STRENGTH_DOUBLE:
-                            if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                            if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                             {
                                 layAntiPheromoneForPath( 
                                     AlgorithmParameters.MMAS, secondWorstPathInColonyCombined, pheromoneTable, bpm );
                             }
-                            else if( AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                            else if( configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                             {
                                 layAntiPheromoneForPath( 
                                     AlgorithmParameters.MMAS, secondWorstTSPPathInColony, pheromoneTable, bpm );
                             }
                         
                         case AlgorithmParameters.ANTIPHEROMONE_STRENGTH_SINGLE:
-                            if( AlgorithmParameters.fitness == AlgorithmParameters.COMBINED )
+                            if( configuration.getFitness( ) == AlgorithmParameters.COMBINED )
                             {
                                 layAntiPheromoneForPath( 
                                     AlgorithmParameters.MMAS, worstPathInColonyCombined, pheromoneTable, bpm );
                             }
-                            else if( AlgorithmParameters.fitness == AlgorithmParameters.TSP_PATH_LENGTH )
+                            else if( configuration.getFitness( ) == AlgorithmParameters.TSP_PATH_LENGTH )
                             {
                                 layAntiPheromoneForPath( 
                                     AlgorithmParameters.MMAS, worstTSPPathInColony, pheromoneTable, bpm );
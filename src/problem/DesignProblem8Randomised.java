@@ -37,6 +37,7 @@ package problem;
  */
 
 import java.util.*;
+import myUtils.RandomStream;
 
 
 public class DesignProblem8Randomised extends DesignProblem
@@ -47,14 +48,21 @@ public class DesignProblem8Randomised extends DesignProblem
     private List< CLSAction > actionList;
     private List< CLSDatum > datumList;
     
+    /** the stream from which the problem is drawn 17 October 2026 */
+    private final RandomStream random;
+    
     /**
      * constructor
      * @param problemController 
+     * @param random - the stream from which the problem is drawn
      */
-    public DesignProblem8Randomised( ProblemController problemController )
+    public DesignProblem8Randomised( ProblemController problemController, RandomStream random )
     {
         super( problemController );
         
+        assert random != null;
+        this.random = random;
+        
         actionList = new ArrayList< CLSAction >( );
         datumList = new ArrayList< CLSDatum >( );
         
@@ -227,13 +235,13 @@ public class DesignProblem8Randomised extends DesignProblem
             for( int i = 0; i < random; i++ )
             {
                 int randomDatumNumber = myUtils.Utility.getRandomInRange( 
-                    this.datumList.size( ) - 1, 0 );
+                    this.random, this.datumList.size( ) - 1, 0 );
             
                 // check for duplication
                 while( intList.contains( randomDatumNumber ) )
                 {
                     randomDatumNumber = myUtils.Utility.getRandomInRange( 
-                        this.datumList.size( ) - 1, 0 );
+                        this.random, this.datumList.size( ) - 1, 0 );
                 }
                 
                 intList.add( randomDatumNumber );
@@ -261,7 +269,8 @@ public class DesignProblem8Randomised extends DesignProblem
         // on average, that's 5.3888 uses per action
         final double seed = 5.3888;
         
-        Random generator = new Random( );
+        // 17 October 2026, seeded from the master seed
+        RandomStream generator = this.random;
 
         // Returns the next pseudorandom, Gaussian
         // ("normally") distributed double value with
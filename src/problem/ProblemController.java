@@ -17,6 +17,7 @@ package problem;
 import config.Parameters;
 import java.io.*;
 import java.util.*;
+import myUtils.RandomStream;
 
 
 public class ProblemController 
@@ -40,6 +41,13 @@ public class ProblemController
     /** matrix if uses - actions x data */
     private int[ ][ ] useMatrix;
     
+    /** 
+     * 17 October 2026, the use matrix as bits, one row of
+     * 64-bit words per action, one bit per datum; 
+     * built from the use matrix when first asked for
+     */
+    private long[ ][ ] useBits;
+    
     /** number of couples in the problem,
      * calculated when the use matrix is generated
      */
@@ -79,6 +87,7 @@ public class ProblemController
         classNumber = VARIABLE_CLASS_NUMBER;
         
         useMatrix = null;   // must generate use table first!!
+        useBits = null;
         numberOfUses = 0;
         
         numberOfActionsForReload = 0;
@@ -127,7 +136,19 @@ public class ProblemController
      */
     public void createDesignProblem8( )
     {
-        DesignProblem8Randomised dp8 = new DesignProblem8Randomised( this );
+        createDesignProblem8( Parameters.masterSeed );
+    }
+    
+    /** 
+     *  create design problem number 8 
+     *  Randomised, drawn from the master seed
+     *  17 October 2026
+     *  @param masterSeed
+     */
+    public void createDesignProblem8( long masterSeed )
+    {
+        DesignProblem8Randomised dp8 = new DesignProblem8Randomised( 
+            this, RandomStream.forProblem( masterSeed ) );
         dp8.constructRandomisedDesignProblem8( );
         this.currentProblemInstance = Parameters.RANDOMISED;
     }
@@ -390,6 +411,7 @@ public class ProblemController
         assert this.datumList.isEmpty( ) == false;
         
         this.useMatrix = new int[ actionList.size( ) ][ datumList.size( ) ];
+        this.useBits = null;
         System.out.println("actions: " + actionList.size( ) );
         System.out.println("data: " + datumList.size( ) );
         
@@ -449,6 +471,7 @@ public class ProblemController
         assert this.datumList.isEmpty( ) == false;
         
         this.useMatrix = new int[ actionList.size( ) ][ datumList.size( ) ];
+        this.useBits = null;
         System.out.println( "actions: " + actionList.size( ) );
         System.out.println( "data: " + datumList.size( ) );
         
@@ -574,6 +597,39 @@ public class ProblemController
         return useMatrix;
     }
     
+    /**
+     * get the use matrix as bits, where bit ( j % 64 ) of
+     * word ( j / 64 ) of row i is set if action i uses datum j.
+     * 17 October 2026
+     * @return use matrix as one row of 64-bit words per action
+     */
+    public long[ ][ ] getUseBits( )
+    {
+        assert useMatrix != null;
+        
+        if( useBits == null )
+        {
+            final int numberOfData = useMatrix[ 0 ].length;
+            final int numberOfWords = ( numberOfData + 63 ) / 64;
+            long[ ][ ] bits = new long[ useMatrix.length ][ numberOfWords ];
+            
+            for( int i = 0; i < useMatrix.length; i++ )
+            {
+                for( int j = 0; j < numberOfData; j++ )
+                {
+                    if( useMatrix[ i ][ j ] == 1 )
+                    {
+                        bits[ i ][ j >>> 6 ] |= 1L << j;
+                    }
+                }
+            }
+            
+            useBits = bits;
+        }
+        
+        return useBits;
+    }
+    
     /**
      * get number of couples
      * @return number of couples
@@ -701,6 +757,7 @@ public class ProblemController
 //                    "data are: " + numberOfData );      
                 
                 useMatrix = new int[ numberOfActionsForReload ][ numberOfDataForReload ];
+                useBits = null;
                 
                 for( int i = 0; i < numberOfActionsForReload; i++ )
                 {
@@ -117,6 +117,80 @@ public class TSP
     }
     
     
+    /**
+     * The heuristic information of each edge: the inverse of the
+     * distance between the cities, to the power of beta. 
+     * An edge from a city to itself has none.
+     * 17 October 2026
+     * @param beta
+     * @return heuristic information as [ from ][ to ]
+     */
+    public double[ ][ ] getHeuristicMatrix( double beta )
+    {
+        assert this.distances != null;
+        assert beta >= 0.0;
+        
+        double[ ][ ] result = new double[ NUMBER_OF_CITIES ][ NUMBER_OF_CITIES ];
+        
+        for( int i = 0; i < NUMBER_OF_CITIES; i++ )
+        {
+            for( int j = 0; j < NUMBER_OF_CITIES; j++ )
+            {
+                if( i != j )
+                {
+                    final double distance = this.distances[ i ][ j ];
+                    assert distance > 0.0 : "cities " + i + " and " + j + " coincide";
+                    result[ i ][ j ] = Math.pow( 1.0 / distance, beta );
+                }
+            }
+        }
+        
+        return result;
+    }
+    
+    
+    /**
+     * For each city, the numbers of its k nearest neighbouring cities,
+     * nearest first, with ties broken by city number. These are the 
+     * candidate lists used in tour construction.
+     * 17 October 2026
+     * @param k - the size of each candidate list
+     * @return candidate lists as [ city ][ rank ]
+     */
+    public int[ ][ ] getNearestNeighbours( int k )
+    {
+        assert this.distances != null;
+        assert k > 0;
+        
+        final int size = Math.min( k, NUMBER_OF_CITIES - 1 );
+        int[ ][ ] result = new int[ NUMBER_OF_CITIES ][ size ];
+        Integer[ ] others = new Integer[ NUMBER_OF_CITIES - 1 ];
+        
+        for( int i = 0; i < NUMBER_OF_CITIES; i++ )
+        {
+            final double[ ] row = this.distances[ i ];
+            int counter = 0;
+            
+            for( int j = 0; j < NUMBER_OF_CITIES; j++ )
+            {
+                if( j != i )
+                {
+                    others[ counter++ ] = j;
+                }
+            }
+            
+            // a stable sort, so equidistant cities stay in number order
+            java.util.Arrays.sort( others, ( a, b ) -> Double.compare( row[ a ], row[ b ] ) );
+            
+            for( int r = 0; r < size; r++ )
+            {
+                result[ i ][ r ] = others[ r ];
+            }
+        }
+        
+        return result;
+    }
+    
     public void showDistances( )
     {
         assert this.distances != null;
@@ -62,12 +62,21 @@ public class BatchResults
     // 18 Septembe 2018
     private static final String BEST_TSP_FILE_NAME = "BestTSP.dat";
     
+    // 17 October 2026
+    private static final String RANDOM_SEED_FILE_NAME = "RandomSeed.dat";
+    private static final String FITNESS_CACHE_FILE_NAME = "FitnessCache.dat";
+    private static final String PARETO_FRONT_FILE_NAME = "ParetoFront.dat";
+    private static final String PARETO_HYPERVOLUME_FILE_NAME = "ParetoHypervolume.dat";
+    
     /** number of iterations of ant colony */
     private final int numberOfIterations;
     
     /** number of trials conducted */
     private final int numberOfRuns; 
     
+    /** master seed of the random streams of all runs 17 October 2026 */
+    private final long masterSeed;
+    
     /**
      * RAW average colony design coupling in ACO search
      * [ trial ][ iteration ]
@@ -229,18 +238,39 @@ public class BatchResults
     public double[ ] bestTSPLength;
     public int[ ] whenBestTSPLengthFound;
     
+    // 17 October 2026, fitness cache lookups in each run
+    public long[ ] fitnessCacheHits;
+    public long[ ] fitnessCacheMisses;
+    
+    // 17 October 2026, the CBO / NAC trade-off front of each run, and its hypervolume
+    public MultiObjectiveResults[ ] paretoFronts;
+    public double[ ] paretoHypervolume;
+    
     /**
-     * constructor
+     * constructor, recording the master seed of Parameters
      * @param number of iterations 
      * @param number Of runs 
      */
     public BatchResults( int iterations, int runs )
+    {
+        this( iterations, runs, Parameters.masterSeed );
+    }
+    
+    /**
+     * constructor
+     * 17 October 2026
+     * @param number of iterations 
+     * @param number Of runs 
+     * @param masterSeed from which the random stream of each run is split
+     */
+    public BatchResults( int iterations, int runs, long masterSeed )
     {
         assert iterations > 0;
         assert runs > 0;
         
         this.numberOfIterations =  iterations;
         this.numberOfRuns = runs;
+        this.masterSeed = masterSeed;
         
         averageDesignCouplingOverRuns = 
             new double[ numberOfRuns ][ numberOfIterations ];
@@ -295,6 +325,10 @@ public class BatchResults
         bestCombined = new double[ numberOfRuns ]; // Chris 30 Nov 2015
         whenCombinedFound = new int[ numberOfRuns ]; // Chris 30 Nov 2015
         maxNumberOfInvalids = new int[ numberOfRuns ]; // Chris 2 Feb 2016
+        fitnessCacheHits = new long[ numberOfRuns ]; // 17 October 2026
+        fitnessCacheMisses = new long[ numberOfRuns ];
+        paretoFronts = new MultiObjectiveResults[ numberOfRuns ]; // 17 October 2026
+        paretoHypervolume = new double[ numberOfRuns ];
         bestATMR = new double[ numberOfRuns ];
         whenATMRFound = new int[ numberOfRuns ];
         bestEM = new double[ numberOfRuns ];
@@ -949,6 +983,10 @@ public class BatchResults
         String interferenceIterationsForSPSSFileFullName = "";
         String interferenceIterationsForGnuPlotFileFullName = "";
         String TSPFileFullName = "";
+        String seedFileFullName = ""; // 17 October 2026
+        String fitnessCacheFileFullName = "";
+        String paretoFrontFileFullName = "";
+        String paretoHypervolumeFileFullName = "";
         
         
         if( Parameters.platform == Parameters.Platform.Windows )
@@ -961,6 +999,10 @@ public class BatchResults
             interferenceIterationsForSPSSFileFullName = Parameters.outputFilePath + "\\" + INTERFERENCE_ITERATIONS_FOR_SPSS_FILE_NAME;
             interferenceIterationsForGnuPlotFileFullName = Parameters.outputFilePath + "\\" + INTERFERENCE_ITERATIONS_FOR_GNUPLOT_FILE_NAME;
             TSPFileFullName = Parameters.outputFilePath + "\\" + BEST_TSP_FILE_NAME;
+            seedFileFullName = Parameters.outputFilePath + "\\" + RANDOM_SEED_FILE_NAME;
+            fitnessCacheFileFullName = Parameters.outputFilePath + "\\" + FITNESS_CACHE_FILE_NAME;
+            paretoFrontFileFullName = Parameters.outputFilePath + "\\" + PARETO_FRONT_FILE_NAME;
+            paretoHypervolumeFileFullName = Parameters.outputFilePath + "\\" + PARETO_HYPERVOLUME_FILE_NAME;
         }
         else    // we're on Mac
         {
@@ -972,6 +1014,10 @@ public class BatchResults
             interferenceIterationsForSPSSFileFullName = Parameters.outputFilePath + "/" + INTERFERENCE_ITERATIONS_FOR_SPSS_FILE_NAME;
             interferenceIterationsForGnuPlotFileFullName = Parameters.outputFilePath + "/" + INTERFERENCE_ITERATIONS_FOR_GNUPLOT_FILE_NAME;
             TSPFileFullName = Parameters.outputFilePath + "/" + BEST_TSP_FILE_NAME;
+            seedFileFullName = Parameters.outputFilePath + "/" + RANDOM_SEED_FILE_NAME;
+            fitnessCacheFileFullName = Parameters.outputFilePath + "/" + FITNESS_CACHE_FILE_NAME;
+            paretoFrontFileFullName = Parameters.outputFilePath + "/" + PARETO_FRONT_FILE_NAME;
+            paretoHypervolumeFileFullName = Parameters.outputFilePath + "/" + PARETO_HYPERVOLUME_FILE_NAME;
         }
         
         System.out.println( "fitness results file name is: " + resultsFileFullName );
@@ -995,6 +1041,10 @@ public class BatchResults
         PrintWriter out6 = null;
         PrintWriter out7 = null;
         PrintWriter out8 = null;
+        PrintWriter out9 = null;
+        PrintWriter out10 = null;
+        PrintWriter out11 = null;
+        PrintWriter out12 = null;
         
         boolean append = true;
         try 
@@ -1008,6 +1058,18 @@ public class BatchResults
             out6 = new PrintWriter( new FileWriter( new File( interferenceIterationsForSPSSFileFullName), append ) );
             out7 = new PrintWriter( new FileWriter( new File( interferenceIterationsForGnuPlotFileFullName), append ) );
             out8 = new PrintWriter( new FileWriter( new File( TSPFileFullName), append ) );
+            out9 = new PrintWriter( new FileWriter( new File( seedFileFullName), append ) );
+            
+            if( AlgorithmParameters.fitnessCache == true )
+            {
+                out10 = new PrintWriter( new FileWriter( new File( fitnessCacheFileFullName), append ) );
+            }
+            
+            if( AlgorithmParameters.paretoArchive == true )
+            {
+                out11 = new PrintWriter( new FileWriter( new File( paretoFrontFileFullName), append ) );
+                out12 = new PrintWriter( new FileWriter( new File( paretoHypervolumeFileFullName), append ) );
+            }
         
         } 
         catch( IOException ex ) 
@@ -1208,6 +1270,74 @@ public class BatchResults
                             evalsWhenTSPBestFound );
         }
 
+        // 17 October 2026
+        // the master seed from which each run's random stream was split, 
+        // so that any run can be replayed exactly
+        for( int run = 0; run < numberOfRuns; run++ )
+        {
+            assert out9 != null;
+            out9.println(   
+                Parameters.problemNumber + " " + 
+                AlgorithmParameters.pheromoneStrength  + " " +            
+                AlgorithmParameters.antipheromoneStrength  + " " +
+                prevent + " " +
+                antiPheromoneOn + " " +
+                AlgorithmParameters.antiPheromonePhasePercentage + " " +
+                ( run + 1 ) + " " + 
+                this.masterSeed );
+        }
+        
+        // 17 October 2026
+        // the fitness cache lookups of each run, which found the 
+        // design and which did not
+        if( out10 != null )
+        {
+            for( int run = 0; run < numberOfRuns; run++ )
+            {
+                out10.println(   
+                    Parameters.problemNumber + " " + 
+                    AlgorithmParameters.pheromoneStrength  + " " +            
+                    AlgorithmParameters.antipheromoneStrength  + " " +
+                    prevent + " " +
+                    antiPheromoneOn + " " +
+                    AlgorithmParameters.antiPheromonePhasePercentage + " " +
+                    ( run + 1 ) + " " + 
+                    this.fitnessCacheHits[ run ] + " " +
+                    this.fitnessCacheMisses[ run ] );
+            }
+            
+            out10.close( );
+        }
+        
+        // 17 October 2026
+        // the CBO / NAC trade-off front of each run, one path per line, 
+        // and its hypervolume; there is no front for a TSP
+        if( out11 != null && out12 != null )
+        {
+            for( int run = 0; run < numberOfRuns; run++ )
+            {
+                if( this.paretoFronts[ run ] == null )
+                {
+                    continue;
+                }
+                
+                final String settings =
+                    Parameters.problemNumber + " " + 
+                    AlgorithmParameters.pheromoneStrength  + " " +            
+                    AlgorithmParameters.antipheromoneStrength  + " " +
+                    prevent + " " +
+                    antiPheromoneOn + " " +
+                    AlgorithmParameters.antiPheromonePhasePercentage + " " +
+                    ( run + 1 ) + " ";
+                
+                this.paretoFronts[ run ].write( out11, settings );
+                out12.println( settings + df.format( this.paretoHypervolume[ run ] ) );
+            }
+            
+            out11.close( );
+            out12.close( );
+        }
+
         out1.close( );
         out2.close( );
         out3.close( );
@@ -1216,6 +1346,7 @@ public class BatchResults
         out6.close( );
         out7.close( );
         out8.close( );
+        out9.close( );
         
     }
     
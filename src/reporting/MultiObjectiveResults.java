@@ -9,6 +9,7 @@ import engine.*;
 import java.io.*;
 import java.text.DecimalFormat;
 import java.util.List;
+import pareto.ParetoArchive;
 
 /**
  *
@@ -22,6 +23,9 @@ public class MultiObjectiveResults
     double[ ] ATMRs;
     final int size; 
     
+    // 17 October 2026, for a snapshot of a Pareto archive, else zero
+    double hypervolume;
+    
     DecimalFormat df;
     
     /** constructor */
@@ -37,6 +41,46 @@ public class MultiObjectiveResults
         df = new DecimalFormat( "0.000" );
     }
     
+    /** 
+     * constructor, for a snapshot of the solutions of a Pareto archive
+     * of CBO and NAC, and optionally ATMR; without ATMR, none is written
+     * 17 October 2026
+     */
+    public MultiObjectiveResults( ParetoArchive archive )
+    {
+        assert archive != null;
+        assert archive.getNumberOfObjectives( ) <= 3;
+        
+        List< double[ ] > solutions = archive.getSolutions( );
+        final boolean hasATMR = archive.getNumberOfObjectives( ) == 3;
+        
+        size = solutions.size( );
+        CBOs = new double[ size ];
+        NACs = new double[ size ];
+        ATMRs = hasATMR ? new double[ size ] : null;
+        
+        for( int i = 0; i < size; i++ )
+        {
+            double[ ] s = solutions.get( i );
+            CBOs[ i ] = s[ 0 ];
+            NACs[ i ] = s[ 1 ];
+            if( hasATMR )
+            {
+                ATMRs[ i ] = s[ 2 ];
+            }
+        }
+        
+        hypervolume = archive.getHypervolume( );
+        
+        df = new DecimalFormat( "0.000" );
+    }
+    
+    /** @return the hypervolume of a Pareto archive snapshot */
+    public double getHypervolume( )
+    {
+        return hypervolume;
+    }
+    
     public void transfer( List< Path > colony )
     {
         assert colony != null;
@@ -68,15 +112,37 @@ public class MultiObjectiveResults
             return;
         }   
         
+        write( out, "" );
+    
+        out.close( );
+    }
+    
+    /**
+     * write the solutions, one per line, each after the given prefix
+     * 17 October 2026
+     * @param out, an open writer
+     * @param prefix, e.g. the settings and the run number, or empty
+     */
+    public void write( PrintWriter out, String prefix )
+    {
+        assert out != null;
+        assert prefix != null;
+        
         for( int i = 0; i < size; i++ )
         {
+            out.print( prefix );
             out.print( df.format( CBOs[ i ] ) );
             out.print( " " );
             out.print( df.format( NACs[ i ] ) );
-            out.print( " " );
-            out.println( ATMRs[ i ] );
+            if( ATMRs == null )
+            {
+                out.println( );
+            }
+            else
+            {
+                out.print( " " );
+                out.println( ATMRs[ i ] );
+            }
         }
-    
-        out.close( );
     }
 }